@@ -53,7 +53,7 @@ export const useProjectDetail = () => {
   } = useQuery({
     queryKey: ["tasks", projectId],
     queryFn: async () => {
-      const res = await api.get<Task[]>(`/projects/${projectId}/tasks`);
+      const res = await api.get<Task[]>(`/projects/${projectId}/tasks?all=true`);
       return res.data;
     },
     enabled: !!projectId,
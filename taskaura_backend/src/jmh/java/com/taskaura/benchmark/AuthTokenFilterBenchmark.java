@@ -0,0 +1,77 @@
+package com.taskaura.benchmark;
+
+import com.taskaura.repository.UserRepository;
+import com.taskaura.repository.UserTokenStateView;
+import com.taskaura.security.jwt.AuthTokenFilter;
+import com.taskaura.security.jwt.JwtUtils;
+import com.taskaura.security.jwt.TokenRevocationRegistry;
+import com.taskaura.security.services.UserDetailsImpl;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * One pass of AuthTokenFilter for an authenticated request: cookie lookup, token verification,
+ * principal construction, revocation check and the auth timer. The principal comes from the token
+ * claims; the revocation check reads the user's tokens_valid_after once per check interval, so in the
+ * steady state it is a cache hit and the stubbed repository is not involved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthTokenFilterBenchmark {
+
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    private AuthTokenFilter filter;
+    private Cookie cookie;
+
+    @Setup
+    public void setup() {
+        byte[] keyBytes = new byte[64];
+        new SecureRandom().nextBytes(keyBytes);
+        JwtUtils jwtUtils = JwtAuthBenchmark.jwtUtils(Encoders.BASE64.encode(keyBytes), verifiedCacheSize);
+
+        filter = new AuthTokenFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtils", jwtUtils);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findTokenStateById(1L)).thenReturn(Optional.of(mock(UserTokenStateView.class)));
+        ReflectionTestUtils.setField(filter, "tokenRevocationRegistry",
+                new TokenRevocationRegistry(userRepository, 10_000, 30_000));
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+
+        String token = jwtUtils.generateTokenFromPrincipal(new UserDetailsImpl(1L, "bench@taskaura.com", "Bench User",
+                null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        cookie = new Cookie("TaskNovaCookie", token);
+    }
+
+    @Benchmark
+    public Authentication filterRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.setCookies(cookie);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,123 @@
+package com.taskaura.benchmark;
+
+import com.taskaura.dto.ProjectDTO;
+import com.taskaura.dto.TaskDTO;
+import com.taskaura.entity.Project;
+import com.taskaura.entity.Task;
+import com.taskaura.mapper.ProjectMapper;
+import com.taskaura.mapper.ProjectMapperImpl;
+import com.taskaura.mapper.TaskMapper;
+import com.taskaura.mapper.TaskMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reflective ModelMapper against the generated MapStruct mappers for the list endpoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    private final ProjectMapper projectMapper = new ProjectMapperImpl();
+
+    private List<Task> tasks;
+    private List<Project> projects;
+    private List<TaskDTO> taskDTOs;
+
+    @Setup
+    public void setup() {
+        tasks = new ArrayList<>(size);
+        projects = new ArrayList<>(size);
+        taskDTOs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Project project = new Project();
+            project.setId((long) i);
+            project.setTitle("Project " + i);
+            project.setDescription("Description of project " + i);
+            project.setCreatedAt(LocalDateTime.now());
+            project.setTaskCount(10);
+            project.setCompletedTaskCount(i % 10);
+            projects.add(project);
+
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTitle("Task " + i);
+            task.setDescription("Description of task " + i);
+            task.setDueDate(LocalDate.now().plusDays(i % 30));
+            task.setCompleted(i % 2 == 0);
+            task.setProject(project);
+            tasks.add(task);
+
+            taskDTOs.add(new TaskDTO((long) i, "Task " + i, "Description", LocalDate.now(), false, (long) i, 0L));
+        }
+    }
+
+    @Benchmark
+    public List<TaskDTO> modelMapperTaskToDto() {
+        List<TaskDTO> result = new ArrayList<>(size);
+        for (Task task : tasks) {
+            result.add(modelMapper.map(task, TaskDTO.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<TaskDTO> mapStructTaskToDto() {
+        List<TaskDTO> result = new ArrayList<>(size);
+        for (Task task : tasks) {
+            result.add(taskMapper.toDto(task));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Task> modelMapperDtoToTask() {
+        List<Task> result = new ArrayList<>(size);
+        for (TaskDTO taskDTO : taskDTOs) {
+            result.add(modelMapper.map(taskDTO, Task.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Task> mapStructDtoToTask() {
+        List<Task> result = new ArrayList<>(size);
+        for (TaskDTO taskDTO : taskDTOs) {
+            result.add(taskMapper.toEntity(taskDTO));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ProjectDTO> modelMapperProjectToDto() {
+        List<ProjectDTO> result = new ArrayList<>(size);
+        for (Project project : projects) {
+            result.add(modelMapper.map(project, ProjectDTO.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ProjectDTO> mapStructProjectToDto() {
+        List<ProjectDTO> result = new ArrayList<>(size);
+        for (Project project : projects) {
+            result.add(projectMapper.toDto(project));
+        }
+        return result;
+    }
+}
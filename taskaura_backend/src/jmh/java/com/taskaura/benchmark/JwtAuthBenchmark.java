@@ -0,0 +1,90 @@
+package com.taskaura.benchmark;
+
+import com.taskaura.security.jwt.JwtUtils;
+import com.taskaura.security.services.UserDetailsImpl;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of turning the auth cookie into a principal: the original
+ * two-parse flow against the precompiled parser, with and without the verified-token cache.
+ * Signing a new token, as sign-in does, is measured alongside.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthBenchmark {
+
+    private String secret;
+    private String token;
+    private JwtUtils cached;
+    private JwtUtils uncached;
+    private UserDetailsImpl principal;
+
+    @Setup
+    public void setup() {
+        byte[] keyBytes = new byte[64];
+        new SecureRandom().nextBytes(keyBytes);
+        secret = Encoders.BASE64.encode(keyBytes);
+
+        cached = jwtUtils(secret, 10_000);
+        uncached = jwtUtils(secret, 0);
+        principal = new UserDetailsImpl(1L, "bench@taskaura.com", "Bench User", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = cached.generateTokenFromPrincipal(principal);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return uncached.generateTokenFromPrincipal(principal);
+    }
+
+    @Benchmark
+    public String legacyValidateThenParse() {
+        Jwts.parser().verifyWith(legacyKey()).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(legacyKey()).build()
+                .parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String precompiledParser() {
+        return uncached.parseAndValidate(token).getSubject();
+    }
+
+    @Benchmark
+    public String verifiedTokenCache() {
+        return cached.parseAndValidate(token).getSubject();
+    }
+
+    @Benchmark
+    public UserDetailsImpl principalFromCachedClaims() {
+        return cached.getPrincipalFromClaims(cached.parseAndValidate(token));
+    }
+
+    private SecretKey legacyKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+
+    static JwtUtils jwtUtils(String secret, long verifiedCacheSize) {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", secret);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 3_600_000);
+        ReflectionTestUtils.setField(jwtUtils, "jwtCookie", "TaskNovaCookie");
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheSize", verifiedCacheSize);
+        jwtUtils.init();
+        return jwtUtils;
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskaura.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskaura.dto.PageDTO;
+import com.taskaura.dto.ProjectDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing the GET /api/projects response body: a Page of ProjectDTOs serialized by an
+ * ObjectMapper configured the way Spring Boot configures the one used for HTTP responses, against
+ * the PageDTO envelope the endpoint now returns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectPageSerializationBenchmark {
+
+    @Param({"6", "50", "500"})
+    private int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private Page<ProjectDTO> page;
+    private PageDTO<ProjectDTO> pageDto;
+
+    @Setup
+    public void setup() {
+        List<ProjectDTO> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(new ProjectDTO((long) i, "Project " + i, "Description of project " + i,
+                    LocalDateTime.now(), 10, i % 10, (i % 10) * 10, 0L));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, size, Sort.by("createdAt").descending()), 10_000);
+        pageDto = PageDTO.of(page);
+    }
+
+    @Benchmark
+    public byte[] writePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writePageDto() throws Exception {
+        return objectMapper.writeValueAsBytes(pageDto);
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskaura.benchmark;
+
+import com.taskaura.TaskauraApplication;
+import com.taskaura.entity.Project;
+import com.taskaura.entity.Task;
+import com.taskaura.entity.User;
+import com.taskaura.security.jwt.JwtUtils;
+import com.taskaura.security.services.UserDetailsImpl;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseCookie;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency percentiles of GET /api/projects/{id}/tasks over HTTP, with Tomcat on its
+ * platform-thread pool against spring.threads.virtual.enabled=true (and the JDBC admission gate).
+ * The in-memory H2 database answers in microseconds, so every prepared statement is delayed by
+ * ROUND_TRIP_MS while its connection is held, standing in for the network hop to PostgreSQL.
+ * Clients run in the same JVM, so compare the two modes with each other rather than with production numbers.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(400)
+@State(Scope.Benchmark)
+public class RequestThreadingBenchmark {
+
+    private static final long ROUND_TRIP_MS = 2;
+    private static final int POOL_SIZE = 10;
+
+    @Param({"platform", "virtual"})
+    private String threading;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(TaskauraApplication.class)
+                .properties("server.port=0",
+                        "management.server.port=0",
+                        "spring.threads.virtual.enabled=" + "virtual".equals(threading),
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new RoundTripDelay(ROUND_TRIP_MS)))
+                .run();
+
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        User user = new User(null, "bench@taskaura.com", "password", "Bench User", null);
+        Project project = new Project();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.persist(user);
+            project.setTitle("Threading benchmark");
+            project.setUser(user);
+            entityManager.persist(project);
+            for (int i = 0; i < 20; i++) {
+                Task task = new Task();
+                task.setTitle("Task " + i);
+                task.setDueDate(LocalDate.now().plusDays(i));
+                task.setProject(project);
+                entityManager.persist(task);
+            }
+        });
+
+        ResponseCookie cookie = context.getBean(JwtUtils.class).generateJwtCookie(
+                new UserDetailsImpl(user.getId(), user.getEmail(), user.getUsername(), null, List.of()));
+        String port = context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/projects/" + project.getId() + "/tasks"))
+                .header("Cookie", cookie.getName() + "=" + cookie.getValue())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int listTasks() throws Exception {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskaura.benchmark;
+
+import com.taskaura.TaskauraApplication;
+import com.taskaura.entity.Project;
+import com.taskaura.entity.Task;
+import com.taskaura.entity.User;
+import com.taskaura.security.jwt.JwtUtils;
+import com.taskaura.security.services.UserDetailsImpl;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseCookie;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/projects/{id} and PATCH /api/tasks/{taskId} over HTTP with the second-level cache on and off.
+ * Every prepared statement is delayed by ROUND_TRIP_MS (see RoundTripDelay), so the time per request
+ * follows the number of database round trips. At the end of each trial the mean number of statements per
+ * request (taskaura.request.jdbc.statements, warmup included) and the cache hits and misses are printed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecondLevelCacheBenchmark {
+
+    private static final long ROUND_TRIP_MS = 1;
+
+    @Param({"true", "false"})
+    private boolean secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private String cookie;
+    private Long projectId;
+    private Long taskId;
+    private long patches;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(TaskauraApplication.class)
+                .properties("server.port=0",
+                        "management.server.port=0",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new RoundTripDelay(ROUND_TRIP_MS)))
+                // An argument, unlike the default properties above, overrides application.properties.
+                .run("--spring.app.secondLevelCacheEnabled=" + secondLevelCache);
+
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        User user = new User(null, "bench@taskaura.com", "password", "Bench User", null);
+        Project project = new Project();
+        Task task = new Task();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.persist(user);
+            project.setTitle("Cache benchmark");
+            project.setUser(user);
+            entityManager.persist(project);
+            task.setTitle("Task");
+            task.setProject(project);
+            entityManager.persist(task);
+        });
+        projectId = project.getId();
+        taskId = task.getId();
+
+        ResponseCookie jwt = context.getBean(JwtUtils.class).generateJwtCookie(
+                new UserDetailsImpl(user.getId(), user.getEmail(), user.getUsername(), null, List.of()));
+        cookie = jwt.getName() + "=" + jwt.getValue();
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MeterRegistry registry = context.getBean(MeterRegistry.class);
+        for (DistributionSummary summary : registry.find("taskaura.request.jdbc.statements").summaries()) {
+            System.out.printf("%n%s %s: %.2f statements per request over %d requests", summary.getId().getTag("method"),
+                    summary.getId().getTag("uri"), summary.mean(), summary.count());
+        }
+        Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        System.out.printf("%nSecond-level cache: %d hits, %d misses, %d puts%n", statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount());
+        context.close();
+    }
+
+    @Benchmark
+    public int getProject() throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/projects/" + projectId)).GET());
+    }
+
+    // Each patch changes the title, so every request writes the task and adjusts the project counters.
+    @Benchmark
+    public int patchTask() throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/" + taskId))
+                .header("Content-Type", "application/merge-patch+json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"title\":\"Task " + patches++ + "\"}")));
+    }
+
+    private int send(HttpRequest.Builder request) throws Exception {
+        HttpResponse<byte[]> response = client.send(request.header("Cookie", cookie).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
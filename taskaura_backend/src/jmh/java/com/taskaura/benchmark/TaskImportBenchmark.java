@@ -0,0 +1,110 @@
+package com.taskaura.benchmark;
+
+import com.taskaura.TaskauraApplication;
+import com.taskaura.entity.Project;
+import com.taskaura.entity.User;
+import com.taskaura.security.services.UserDetailsImpl;
+import com.taskaura.service.TaskImportService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows/sec of the JSON task import against the in-memory H2 database from the test resources.
+ * batchSize=1 reproduces the one-round-trip-per-row behaviour of IDENTITY ids; over a network
+ * connection to PostgreSQL the gap is considerably wider than in-process H2 shows.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskImportBenchmark {
+
+    private static final int ROWS = 5_000;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskImportService importService;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private JdbcTemplate jdbcTemplate;
+    private UsernamePasswordAuthenticationToken authentication;
+    private Long projectId;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(TaskauraApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "spring.jpa.properties.hibernate.order_inserts=true",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        importService = context.getBean(TaskImportService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        entityManager = context.getBean(EntityManager.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        User user = new User(null, "bench@taskaura.com", "password", "Bench User", null);
+        Project project = new Project();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.persist(user);
+            project.setTitle("Import target");
+            project.setUser(user);
+            entityManager.persist(project);
+        });
+        projectId = project.getId();
+        authentication = new UsernamePasswordAuthenticationToken(
+                new UserDetailsImpl(user.getId(), user.getEmail(), user.getUsername(), null, List.of()), null, List.of());
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < ROWS; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"title\":\"Imported task ").append(i)
+                    .append("\",\"description\":\"Row ").append(i)
+                    .append(" of the benchmark backlog\",\"dueDate\":\"2026-01-")
+                    .append(String.format("%02d", 1 + i % 28))
+                    .append("\",\"completed\":").append(i % 3 == 0).append('}');
+        }
+        body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteImportedTasks() {
+        jdbcTemplate.update("DELETE FROM tasks");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int importJson() {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            return importService.importJson(projectId, new ByteArrayInputStream(body)).getImported();
+        });
+    }
+}
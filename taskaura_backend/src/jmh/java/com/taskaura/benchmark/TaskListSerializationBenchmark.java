@@ -0,0 +1,74 @@
+package com.taskaura.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.taskaura.dto.TaskDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cost and size of the GET /api/projects/{projectId}/tasks body, with and without the Blackbird module and
+ * with and without gzip. The size of one response on the wire, plain and gzipped, is printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskListSerializationBenchmark {
+
+    @Param({"10", "100", "10000"})
+    private int tasks;
+
+    @Param({"databind", "blackbird"})
+    private String serializer;
+
+    private ObjectMapper objectMapper;
+    private List<TaskDTO> taskList;
+
+    @Setup
+    public void setup() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("blackbird".equals(serializer)) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        taskList = new ArrayList<>(tasks);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < tasks; i++) {
+            taskList.add(new TaskDTO((long) i, "Task " + i + " of the sprint",
+                    i % 3 == 0 ? null : "Follow up on item " + i + " with the team",
+                    i % 2 == 0 ? today.plusDays(i % 30) : null, i % 4 == 0, 1L, i % 7));
+        }
+        try {
+            System.out.printf("%n%d tasks: %d bytes, %d bytes gzipped%n", tasks, writeTasks().length, writeTasksGzip().length);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public byte[] writeTasks() throws IOException {
+        return objectMapper.writeValueAsBytes(taskList);
+    }
+
+    // What Tomcat does for a client that accepts gzip: serialize, then deflate at the default level.
+    @Benchmark
+    public byte[] writeTasksGzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, taskList);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskaura.loadtest;
+
+import com.taskaura.entity.Project;
+import com.taskaura.entity.Task;
+import com.taskaura.entity.User;
+import com.taskaura.repository.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seeds users, projects and tasks through JPA, one transaction per user, and returns them as virtual users.
+ * Titles are drawn from a small vocabulary so that searches find matches.
+ */
+final class Dataset {
+
+    static final String PASSWORD = "loadtest-password";
+
+    private static final String[] VERBS = {"Implement", "Test", "Review", "Design", "Deploy", "Research", "Finalize"};
+    private static final String[] NOUNS = {"authentication", "schema", "landing", "metrics", "documentation", "feedback",
+            "onboarding", "billing", "notifications", "dashboard"};
+
+    private Dataset() {
+    }
+
+    static List<VirtualUser> seed(ConfigurableApplicationContext context, int users, int projectsPerUser, int tasksPerProject) {
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        Random random = new Random(42);
+
+        List<VirtualUser> seeded = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            String email = "load" + u + "@taskaura.com";
+            long[] projectIds = new long[projectsPerUser];
+            long[] taskIds = new long[projectsPerUser * tasksPerProject];
+            transactionTemplate.executeWithoutResult(status -> {
+                User user = new User(null, email, passwordHash, "Load User " + email, null);
+                entityManager.persist(user);
+                for (int p = 0; p < projectsPerUser; p++) {
+                    Project project = new Project();
+                    project.setTitle(pick(random, VERBS) + " " + pick(random, NOUNS) + " " + p);
+                    project.setDescription("Seeded " + pick(random, NOUNS) + " project");
+                    project.setUser(user);
+                    entityManager.persist(project);
+                    projectIds[p] = project.getId();
+                    for (int t = 0; t < tasksPerProject; t++) {
+                        Task task = new Task();
+                        task.setTitle(pick(random, VERBS) + " " + pick(random, NOUNS));
+                        task.setDescription("Seeded task " + t + " about " + pick(random, NOUNS));
+                        task.setDueDate(LocalDate.now().plusDays(random.nextInt(60) - 30));
+                        task.setCompleted(random.nextInt(3) == 0);
+                        task.setProject(project);
+                        entityManager.persist(task);
+                        taskIds[p * tasksPerProject + t] = task.getId();
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            seeded.add(new VirtualUser(email, projectIds, taskIds));
+        }
+        transactionTemplate.executeWithoutResult(status -> context.getBean(ProjectRepository.class).reconcileTaskCounters());
+        return seeded;
+    }
+
+    static String randomSearchTerm() {
+        return NOUNS[ThreadLocalRandom.current().nextInt(NOUNS.length)];
+    }
+
+    static String randomTaskTitle() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return VERBS[random.nextInt(VERBS.length)] + " " + NOUNS[random.nextInt(NOUNS.length)];
+    }
+
+    private static String pick(Random random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+}
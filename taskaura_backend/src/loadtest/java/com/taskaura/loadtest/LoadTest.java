@@ -0,0 +1,324 @@
+package com.taskaura.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskaura.TaskauraApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import org.HdrHistogram.Histogram;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boots the application on a random port against an in-process database, seeds it and drives a
+ * {@link Workload} with a fixed number of closed-loop clients (no think time unless --thinkMs is set).
+ * Prints throughput, latency percentiles and error rates per operation, and the second-level cache hits and
+ * misses per region (warmup included), and writes them as JSON.
+ * <p>
+ * Options ({@code name=value}, optionally prefixed with {@code --}): workload (dashboard | sprint), db (h2 | postgres), users, projects (per user),
+ * tasks (per project), concurrency, warmup and duration (seconds), thinkMs, out. Options starting with
+ * {@code spring.}, {@code server.} or {@code management.} are passed to the application,
+ * e.g. {@code spring.threads.virtual.enabled=true}.
+ */
+public final class LoadTest {
+
+    private final Map<String, String> options;
+    private final Map<String, String> applicationProperties = new LinkedHashMap<>();
+
+    private LoadTest(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            if (option.indexOf('=') < 1) {
+                throw new IllegalArgumentException("Expected name=value, got " + arg);
+            }
+            options.put(option.substring(0, option.indexOf('=')), option.substring(option.indexOf('=') + 1));
+        }
+        new LoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        Workload workload = Workload.parse(option("workload", "dashboard"));
+        String db = option("db", "h2");
+        int users = intOption("users", 50);
+        int projects = intOption("projects", 5);
+        int tasks = intOption("tasks", 40);
+        int concurrency = intOption("concurrency", 32);
+        int warmupSeconds = intOption("warmup", 10);
+        int durationSeconds = intOption("duration", 30);
+        long thinkMs = intOption("thinkMs", 0);
+
+        EmbeddedPostgres postgres = null;
+        if ("postgres".equals(db)) {
+            postgres = EmbeddedPostgres.builder().start();
+            postgresProperties(postgres.getJdbcUrl("postgres", "postgres"));
+        } else if ("h2".equals(db)) {
+            h2Properties();
+        } else {
+            throw new IllegalArgumentException("Unknown db: " + db + " (h2 or postgres)");
+        }
+        applicationProperties.put("server.port", "0");
+        applicationProperties.put("management.server.port", "0");
+        applicationProperties.put("spring.app.jwtSecret", "bG9hZHRlc3QtbG9hZHRlc3QtbG9hZHRlc3QtbG9hZHRlc3QtbG9hZHRlc3QtbG9hZHRlc3Q=");
+        applicationProperties.put("spring.app.jwtExpirationMs", "3600000");
+        applicationProperties.put("logging.level.root", "WARN");
+        // The test application.properties shadows the main one on this classpath; the cache report needs these.
+        applicationProperties.put("spring.jpa.properties.hibernate.generate_statistics", "true");
+        applicationProperties.put("logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener", "WARN");
+        options.forEach((name, value) -> {
+            if (name.startsWith("spring.") || name.startsWith("server.") || name.startsWith("management.")) {
+                applicationProperties.put(name, value);
+            }
+        });
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskauraApplication.class)
+                .properties(applicationProperties.entrySet().stream().map(e -> e.getKey() + "=" + e.getValue()).toArray(String[]::new))
+                .run();
+        try {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            String cookieName = context.getEnvironment().getProperty("spring.app.jwtCookieName");
+            System.out.printf("Application on :%s (metrics on :%s/actuator/prometheus), database %s%n",
+                    port, context.getEnvironment().getProperty("local.management.port"), db);
+
+            long seedStart = System.nanoTime();
+            List<VirtualUser> seeded = Dataset.seed(context, users, projects, tasks);
+            System.out.printf("Seeded %d users, %d projects, %d tasks in %d ms%n", users, users * projects,
+                    users * projects * tasks, (System.nanoTime() - seedStart) / 1_000_000);
+
+            Driver driver = new Driver(URI.create("http://localhost:" + port), cookieName, workload, thinkMs);
+            for (VirtualUser user : seeded) {
+                driver.signIn(user);
+            }
+            Map<Operation, OperationStats> results = driver.run(seeded, concurrency,
+                    Duration.ofSeconds(warmupSeconds), Duration.ofSeconds(durationSeconds));
+            report(workload, db, concurrency, durationSeconds, results, secondLevelCache(context));
+        } finally {
+            context.close();
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+
+    private void postgresProperties(String url) {
+        applicationProperties.put("spring.datasource.url", url);
+        applicationProperties.put("spring.datasource.username", "postgres");
+        applicationProperties.put("spring.datasource.password", "");
+        applicationProperties.put("spring.app.searchEngine", "postgres");
+    }
+
+    private void h2Properties() {
+        applicationProperties.put("spring.datasource.url",
+                "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH");
+        applicationProperties.put("spring.datasource.username", "sa");
+        applicationProperties.put("spring.datasource.password", "");
+        applicationProperties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        applicationProperties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        applicationProperties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        applicationProperties.put("spring.sql.init.mode", "never");
+        applicationProperties.put("spring.app.searchEngine", "memory");
+    }
+
+    // Empty when the cache is off (spring.app.secondLevelCacheEnabled=false).
+    private static List<Map<String, Object>> secondLevelCache(ConfigurableApplicationContext context) {
+        SessionFactory sessionFactory = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class);
+        List<Map<String, Object>> regions = new ArrayList<>();
+        if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return regions;
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        for (String name : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(name);
+            long requests = region.getHitCount() + region.getMissCount();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("region", name);
+            row.put("hits", region.getHitCount());
+            row.put("misses", region.getMissCount());
+            row.put("puts", region.getPutCount());
+            row.put("hitRatio", requests == 0 ? 0.0 : (double) region.getHitCount() / requests);
+            regions.add(row);
+        }
+        return regions;
+    }
+
+    private void report(Workload workload, String db, int concurrency, int durationSeconds,
+                        Map<Operation, OperationStats> results, List<Map<String, Object>> cacheRegions) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        Histogram total = null;
+        long totalErrors = 0;
+        for (Map.Entry<Operation, OperationStats> entry : results.entrySet()) {
+            Histogram histogram = entry.getValue().histogram();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            rows.add(row(entry.getKey().name(), histogram, entry.getValue().errors(), durationSeconds));
+            if (total == null) {
+                total = histogram.copy();
+            } else {
+                total.add(histogram);
+            }
+            totalErrors += entry.getValue().errors();
+        }
+        if (total != null) {
+            rows.add(row("TOTAL", total, totalErrors, durationSeconds));
+        }
+
+        System.out.printf("%nWorkload %s, %d clients, %d s measured%n", workload, concurrency, durationSeconds);
+        System.out.printf("%-14s %9s %9s %8s %7s %9s %9s %9s %9s%n",
+                "operation", "count", "ops/s", "errors", "err%", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Map<String, Object> row : rows) {
+            System.out.printf("%-14s %9d %9.1f %8d %7.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.get("operation"), row.get("count"), row.get("throughput"), row.get("errors"),
+                    row.get("errorRate"), row.get("p50Ms"), row.get("p95Ms"), row.get("p99Ms"), row.get("maxMs"));
+        }
+        if (!cacheRegions.isEmpty()) {
+            System.out.printf("%nSecond-level cache, warmup included%n%-14s %9s %9s %9s %9s%n",
+                    "region", "hits", "misses", "puts", "hit ratio");
+            for (Map<String, Object> region : cacheRegions) {
+                System.out.printf("%-14s %9d %9d %9d %9.3f%n", region.get("region"), region.get("hits"),
+                        region.get("misses"), region.get("puts"), region.get("hitRatio"));
+            }
+        }
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("workload", workload.name());
+        document.put("db", db);
+        document.put("concurrency", concurrency);
+        document.put("durationSeconds", durationSeconds);
+        document.put("options", options);
+        document.put("operations", rows);
+        document.put("secondLevelCache", cacheRegions);
+        File out = new File(option("out", "target/loadtest-result.json"));
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, document);
+        System.out.println("Results written to " + out.getPath());
+    }
+
+    private static Map<String, Object> row(String operation, Histogram histogram, long errors, int durationSeconds) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("operation", operation);
+        row.put("count", histogram.getTotalCount());
+        row.put("throughput", histogram.getTotalCount() / (double) durationSeconds);
+        row.put("errors", errors);
+        row.put("errorRate", 100.0 * errors / histogram.getTotalCount());
+        row.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+        row.put("p95Ms", histogram.getValueAtPercentile(95) / 1000.0);
+        row.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+        row.put("maxMs", histogram.getMaxValue() / 1000.0);
+        return row;
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(option(name, String.valueOf(defaultValue)));
+    }
+
+    /**
+     * The client side: one platform thread per simulated client, each bound to a seeded user.
+     */
+    private static final class Driver {
+
+        private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        private final URI base;
+        private final String cookieName;
+        private final Workload workload;
+        private final long thinkMs;
+
+        Driver(URI base, String cookieName, Workload workload, long thinkMs) {
+            this.base = base;
+            this.cookieName = cookieName;
+            this.workload = workload;
+            this.thinkMs = thinkMs;
+        }
+
+        void signIn(VirtualUser user) throws IOException, InterruptedException {
+            if (execute(Operation.SIGNIN, user) >= 400) {
+                throw new IllegalStateException("Sign-in failed for " + user.email());
+            }
+        }
+
+        Map<Operation, OperationStats> run(List<VirtualUser> users, int concurrency, Duration warmup, Duration duration)
+                throws InterruptedException {
+            Map<Operation, OperationStats> results = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                results.put(operation, new OperationStats());
+            }
+            long measureFrom = System.nanoTime() + warmup.toNanos();
+            long stopAt = measureFrom + duration.toNanos();
+            System.out.printf("Warming up for %d s, then measuring for %d s%n", warmup.toSeconds(), duration.toSeconds());
+
+            List<Thread> clients = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                VirtualUser user = users.get(i % users.size());
+                clients.add(Thread.ofPlatform().name("load-client-" + i).start(() -> {
+                    while (true) {
+                        Operation operation = workload.next();
+                        long start = System.nanoTime();
+                        if (start >= stopAt) {
+                            return;
+                        }
+                        boolean failed;
+                        try {
+                            failed = execute(operation, user) >= 400;
+                        } catch (IOException e) {
+                            failed = true;
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        if (start >= measureFrom) {
+                            results.get(operation).record(System.nanoTime() - start, failed);
+                        }
+                        if (thinkMs > 0) {
+                            try {
+                                Thread.sleep(thinkMs);
+                            } catch (InterruptedException e) {
+                                return;
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Thread client : clients) {
+                client.join();
+            }
+            return results;
+        }
+
+        private int execute(Operation operation, VirtualUser user) throws IOException, InterruptedException {
+            HttpRequest.Builder request = operation.request(base, user).timeout(Duration.ofSeconds(30));
+            if (operation != Operation.SIGNIN) {
+                request.header("Cookie", cookieName + "=" + user.cookie());
+            }
+            HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (operation == Operation.SIGNIN && response.statusCode() < 400) {
+                response.headers().allValues("Set-Cookie").stream()
+                        .filter(cookie -> cookie.startsWith(cookieName + "="))
+                        .findFirst()
+                        .ifPresent(cookie -> user.cookie(cookie.split(";", 2)[0].substring(cookieName.length() + 1)));
+            }
+            return response.statusCode();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskaura.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One REST call as a user of the web app would make it.
+ */
+public enum Operation {
+
+    SIGNIN {
+        @Override
+        HttpRequest.Builder request(URI base, VirtualUser user) {
+            return json(base.resolve("/api/auth/signin"), "POST",
+                    "{\"email\":\"" + user.email() + "\",\"password\":\"" + Dataset.PASSWORD + "\"}");
+        }
+    },
+    LIST_PROJECTS {
+        @Override
+        HttpRequest.Builder request(URI base, VirtualUser user) {
+            return HttpRequest.newBuilder(base.resolve("/api/projects?page=0&size=6"));
+        }
+    },
+    GET_PROJECT {
+        @Override
+        HttpRequest.Builder request(URI base, VirtualUser user) {
+            return HttpRequest.newBuilder(base.resolve("/api/projects/" + user.randomProject()));
+        }
+    },
+    LIST_TASKS {
+        @Override
+        HttpRequest.Builder request(URI base, VirtualUser user) {
+            return HttpRequest.newBuilder(base.resolve("/api/projects/" + user.randomProject() + "/tasks"));
+        }
+    },
+    SEARCH {
+        @Override
+        HttpRequest.Builder request(URI base, VirtualUser user) {
+            return HttpRequest.newBuilder(base.resolve("/api/search?q=" + Dataset.randomSearchTerm()));
+        }
+    },
+    DASHBOARD {
+        @Override
+        HttpRequest.Builder request(URI base, VirtualUser user) {
+            return HttpRequest.newBuilder(base.resolve("/api/dashboard"));
+        }
+    },
+    TOGGLE_TASK {
+        @Override
+        HttpRequest.Builder request(URI base, VirtualUser user) {
+            return HttpRequest.newBuilder(base.resolve("/api/tasks/" + user.randomTask() + "/toggle"))
+                    .POST(HttpRequest.BodyPublishers.noBody());
+        }
+    },
+    CREATE_TASK {
+        @Override
+        HttpRequest.Builder request(URI base, VirtualUser user) {
+            return json(base.resolve("/api/projects/" + user.randomProject() + "/tasks"), "POST",
+                    "{\"title\":\"" + Dataset.randomTaskTitle() + "\",\"description\":\"Added during planning\","
+                            + "\"dueDate\":\"" + LocalDate.now().plusDays(ThreadLocalRandom.current().nextInt(14)) + "\"}");
+        }
+    },
+    PATCH_TASK {
+        @Override
+        HttpRequest.Builder request(URI base, VirtualUser user) {
+            return HttpRequest.newBuilder(base.resolve("/api/tasks/" + user.randomTask()))
+                    .header("Content-Type", "application/merge-patch+json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                            "{\"dueDate\":\"" + LocalDate.now().plusDays(ThreadLocalRandom.current().nextInt(14)) + "\"}"));
+        }
+    };
+
+    abstract HttpRequest.Builder request(URI base, VirtualUser user);
+
+    private static HttpRequest.Builder json(URI uri, String method, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskaura.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies (microseconds) and failures of one operation during the measurement window.
+ * A failure is an exception or a 4xx/5xx response; its latency is recorded as well.
+ */
+final class OperationStats {
+
+    private final Recorder latencies = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+    private Histogram histogram;
+
+    void record(long latencyNanos, boolean failed) {
+        latencies.recordValue(Math.max(1, latencyNanos / 1_000));
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    Histogram histogram() {
+        if (histogram == null) {
+            histogram = latencies.getIntervalHistogram();
+        }
+        return histogram;
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskaura.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A seeded account together with the ids it owns. The auth cookie is replaced on every sign-in.
+ */
+public final class VirtualUser {
+
+    private final String email;
+    private final long[] projectIds;
+    private final long[] taskIds;
+    private volatile String cookie;
+
+    VirtualUser(String email, long[] projectIds, long[] taskIds) {
+        this.email = email;
+        this.projectIds = projectIds;
+        this.taskIds = taskIds;
+    }
+
+    String email() {
+        return email;
+    }
+
+    String cookie() {
+        return cookie;
+    }
+
+    void cookie(String cookie) {
+        this.cookie = cookie;
+    }
+
+    long randomProject() {
+        return projectIds[ThreadLocalRandom.current().nextInt(projectIds.length)];
+    }
+
+    long randomTask() {
+        return taskIds[ThreadLocalRandom.current().nextInt(taskIds.length)];
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskaura.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Operation mixes modelled on real traffic. Weights are relative; each virtual user draws its next
+ * operation from the mix independently.
+ */
+public enum Workload {
+
+    // Opening and browsing the dashboard: mostly reads, the odd checkbox and a few fresh sign-ins
+    DASHBOARD(Map.of(
+            Operation.DASHBOARD, 10,
+            Operation.LIST_PROJECTS, 30,
+            Operation.GET_PROJECT, 15,
+            Operation.LIST_TASKS, 25,
+            Operation.SEARCH, 8,
+            Operation.TOGGLE_TASK, 10,
+            Operation.SIGNIN, 2)),
+
+    // Sprint planning: creating, editing and ticking off tasks while re-reading the task list
+    SPRINT_PLANNING(Map.of(
+            Operation.CREATE_TASK, 25,
+            Operation.PATCH_TASK, 25,
+            Operation.TOGGLE_TASK, 20,
+            Operation.LIST_TASKS, 25,
+            Operation.LIST_PROJECTS, 3,
+            Operation.SIGNIN, 2));
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    Workload(Map<Operation, Integer> weights) {
+        Map<Operation, Integer> ordered = new EnumMap<>(weights);
+        operations = ordered.keySet().toArray(Operation[]::new);
+        cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += ordered.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public Operation next() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weights exhausted");
+    }
+
+    public static Workload parse(String name) {
+        return switch (name.toLowerCase()) {
+            case "dashboard", "read" -> DASHBOARD;
+            case "sprint", "sprint-planning", "write" -> SPRINT_PLANNING;
+            default -> throw new IllegalArgumentException("Unknown workload: " + name + " (dashboard or sprint)");
+        };
+    }
+}
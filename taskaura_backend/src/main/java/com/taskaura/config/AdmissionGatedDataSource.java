@@ -0,0 +1,130 @@
+package com.taskaura.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admits at most as many threads to the connection pool as it has connections. With virtual threads
+ * thousands of requests can ask for a connection at once; the surplus parks on a fair semaphore,
+ * which is cheap and first-come first-served, instead of crowding the pool's own hand-off.
+ * A permit is held from getConnection() until the connection is closed. The gate and the pool share
+ * Hikari's connectionTimeout: the pool only gets what the gate left of it, so a caller never waits longer
+ * than that in total.
+ */
+public class AdmissionGatedDataSource extends DelegatingDataSource {
+
+    private final HikariDataSource hikari;
+    private final Semaphore permits;
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public AdmissionGatedDataSource(HikariDataSource target, int permits) {
+        super(target);
+        this.hikari = target;
+        this.permits = new Semaphore(permits, true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        long timeoutMs = hikari.getConnectionTimeout();
+        acquire(start, timeoutMs);
+        try {
+            return releasingOnClose(connect(timeoutMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire(System.nanoTime(), hikari.getConnectionTimeout());
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int queueLength() {
+        return permits.getQueueLength();
+    }
+
+    public long acquisitions() {
+        return acquisitions.sum();
+    }
+
+    public long totalWaitNanos() {
+        return waitNanos.sum();
+    }
+
+    private void acquire(long start, long timeoutMs) throws SQLException {
+        try {
+            boolean acquired = permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+            acquisitions.increment();
+            waitNanos.add(System.nanoTime() - start);
+            if (!acquired) {
+                throw new SQLTransientConnectionException(
+                        "No database connection became available within " + timeoutMs + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    // The pool exists once the first connection has been made (Spring Boot starts Hikari lazily); until then,
+    // and after it is closed, the data source's own getConnection() applies with the full timeout.
+    private Connection connect(long remainingMs) throws SQLException {
+        if (!hikari.isClosed() && hikari.getHikariPoolMXBean() instanceof HikariPool pool) {
+            return pool.getConnection(Math.max(remainingMs, 0));
+        }
+        return hikari.getConnection();
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                try {
+                    return method.invoke(connection);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+            }
+            return invoke(connection, method, args);
+        };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
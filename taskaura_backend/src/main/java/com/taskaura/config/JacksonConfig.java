@@ -0,0 +1,20 @@
+package com.taskaura.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Boot registers every Module bean with the shared ObjectMapper. Blackbird replaces the reflective
+ * getter/setter/constructor calls of bean (de)serializers with generated lambdas, which takes a noticeable
+ * share off the cost of writing the DTO lists returned by the controllers.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,109 @@
+package com.taskaura.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate's second-level cache on an in-process Caffeine JCache, one size-bounded region per cached
+ * entity (and for Project.tasks), each with its own time to live. Hibernate keeps the regions consistent
+ * with its own writes; HQL and criteria bulk statements evict the regions of the entities they touch, and
+ * native statements only evict the regions named by their query spaces (none named means all of them).
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Region names as used in the @Cache annotations; the property prefix is spring.app.<prefix>Cache*.
+    private record Region(String name, String propertyPrefix, long defaultMaxSize, long defaultTtlMs) {
+    }
+
+    private static final List<Region> REGIONS = List.of(
+            new Region("users", "user", 10_000, 600_000),
+            new Region("projects", "project", 10_000, 300_000),
+            new Region("tasks", "task", 50_000, 300_000),
+            new Region("project-tasks", "projectTasks", 5_000, 300_000));
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCache(Environment environment,
+                                                   @Value("${spring.app.secondLevelCacheEnabled:true}") boolean enabled) {
+        return properties -> {
+            // hibernate-jcache registers itself as the only region factory, which Hibernate would pick up on its own.
+            if (!enabled) {
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                return;
+            }
+            // Hibernate closes the manager with the session factory. Its own URI keeps two application
+            // contexts in one JVM (tests, benchmarks) from sharing, and then closing, the same manager.
+            CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                    .getCacheManager(URI.create("taskaura-second-level-cache-" + UUID.randomUUID()),
+                            SecondLevelCacheConfig.class.getClassLoader());
+            for (Region region : REGIONS) {
+                String prefix = "spring.app." + region.propertyPrefix() + "Cache";
+                long maxSize = environment.getProperty(prefix + "MaxSize", Long.class, region.defaultMaxSize());
+                long ttlMs = environment.getProperty(prefix + "TtlMs", Long.class, region.defaultTtlMs());
+                // Hibernate stores disassembled state, so copying entries on every access would be wasted work.
+                CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>()
+                        .setStoreByValue(false)
+                        .setMaximumSize(OptionalLong.of(maxSize))
+                        .setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+                cacheManager.createCache(region.name(), configuration);
+            }
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            // A region missing from REGIONS is a mistake, not something to create with unbounded defaults.
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Deleting a task through the session also drops the cached Project.tasks collection it belonged to.
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+        };
+    }
+
+    // Lets ownership checks ask whether an entity is cached before choosing how to load it. With the cache
+    // off, contains() is always false.
+    @Bean
+    Cache entityCache(EntityManagerFactory entityManagerFactory) {
+        return entityManagerFactory.getCache();
+    }
+
+    // hibernate.second.level.cache.requests{result=hit|miss} has the counts; this is the lifetime ratio per region.
+    @Bean
+    @ConditionalOnProperty(name = "spring.app.secondLevelCacheEnabled", havingValue = "true", matchIfMissing = true)
+    MeterBinder secondLevelCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+            for (Region region : REGIONS) {
+                CacheRegionStatistics statistics = sessionFactory.getStatistics().getDomainDataRegionStatistics(region.name());
+                Gauge.builder("taskaura.hibernate.cache.hit.ratio", statistics, SecondLevelCacheConfig::hitRatio)
+                        .tag("region", region.name())
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics statistics) {
+        long hits = statistics.getHitCount();
+        long requests = hits + statistics.getMissCount();
+        return requests == 0 ? Double.NaN : (double) hits / requests;
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskaura.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Active only with spring.threads.virtual.enabled=true, which moves Tomcat request handling,
+ * the application task executor and scheduling onto virtual threads.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // HikariConfig reports -1 until the pool validates its settings on first use
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.app.jdbcAdmissionGateEnabled", havingValue = "true", matchIfMissing = true)
+    static JdbcAdmissionGate jdbcAdmissionGate() {
+        return new JdbcAdmissionGate();
+    }
+
+    // Time spent waiting here is not visible in hikaricp.connections.acquire
+    @Bean
+    @ConditionalOnProperty(name = "spring.app.jdbcAdmissionGateEnabled", havingValue = "true", matchIfMissing = true)
+    MeterBinder jdbcAdmissionGateMetrics(DataSource dataSource) {
+        return registry -> {
+            AdmissionGatedDataSource gate = unwrap(dataSource, AdmissionGatedDataSource.class);
+            if (gate != null) {
+                FunctionTimer.builder("taskaura.jdbc.admission.wait", gate,
+                                AdmissionGatedDataSource::acquisitions, AdmissionGatedDataSource::totalWaitNanos, TimeUnit.NANOSECONDS)
+                        .register(registry);
+                Gauge.builder("taskaura.jdbc.admission.queued", gate, AdmissionGatedDataSource::queueLength)
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.app.pinningMonitorEnabled", havingValue = "true", matchIfMissing = true)
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(@Value("${spring.app.pinningThresholdMs:20}") long thresholdMs) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMs));
+    }
+
+    private static <T> T unwrap(DataSource dataSource, Class<T> type) {
+        try {
+            return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    // Ordered first so the gate wraps the Hikari data source itself, beneath the query-counting proxy.
+    static class JdbcAdmissionGate implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                int poolSize = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+                return new AdmissionGatedDataSource(hikari, poolSize);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
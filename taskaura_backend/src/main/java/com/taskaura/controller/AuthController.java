@@ -7,20 +7,23 @@ import com.taskaura.security.request.LoginRequest;
 import com.taskaura.security.request.SignupRequest;
 import com.taskaura.security.response.MessageResponse;
 import com.taskaura.security.response.UserInfoResponse;
+import com.taskaura.security.services.PasswordHashingExecutor;
 import com.taskaura.security.services.UserDetailsImpl;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @RestController
@@ -39,14 +42,25 @@ public class AuthController {
     @Autowired
     PasswordEncoder encoder;
 
+    @Autowired
+    PasswordHashingExecutor passwordHashingExecutor;
 
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    Executor taskExecutor;
 
+    // Hashing runs on the PasswordHashingExecutor and the request thread is released until it completes. What
+    // follows (issuing the token, saving the user) runs on the application task executor, so the bounded
+    // hashing pool only ever hashes.
     @PostMapping("/signin")
-    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<?>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+        UsernamePasswordAuthenticationToken credentials =
+                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword());
+        return passwordHashingExecutor.submit("signin", () -> authenticationManager.authenticate(credentials))
+                .thenApplyAsync(this::signedIn, taskExecutor);
+    }
 
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+    private ResponseEntity<?> signedIn(Authentication authentication) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
         ResponseCookie jwtCookie = jwtUtils.generateJwtCookie(userDetails);
         List<String> roles = userDetails.getAuthorities().stream()
@@ -61,18 +75,22 @@ public class AuthController {
                         roles));
     }
     @PostMapping("/signup")
-    public ResponseEntity<?> registerUser(@Valid @RequestBody SignupRequest signUpRequest) {
+    public CompletableFuture<ResponseEntity<?>> registerUser(@Valid @RequestBody SignupRequest signUpRequest) {
         if (userRepository.existsByEmail(signUpRequest.getEmail())) {
-            return ResponseEntity.badRequest().body(new MessageResponse("Error: Email is already in use!"));
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body(new MessageResponse("Error: Email is already in use!")));
         }
-        User user = new User();
-        user.setUsername(signUpRequest.getUsername());
-        user.setEmail(signUpRequest.getEmail());
-        user.setPassword(encoder.encode(signUpRequest.getPassword()));
+        return passwordHashingExecutor.submit("signup", () -> encoder.encode(signUpRequest.getPassword()))
+                .thenApplyAsync(passwordHash -> {
+                    User user = new User();
+                    user.setUsername(signUpRequest.getUsername());
+                    user.setEmail(signUpRequest.getEmail());
+                    user.setPassword(passwordHash);
 
-        userRepository.save(user);
+                    userRepository.save(user);
 
-        return ResponseEntity.ok(new MessageResponse("User registered successfully!"));
+                    return ResponseEntity.ok(new MessageResponse("User registered successfully!"));
+                }, taskExecutor);
     }
     @PostMapping("/signout")
     public ResponseEntity<?> signoutUser() {
@@ -1,12 +1,18 @@
 package com.taskaura.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.taskaura.dto.ProjectDTO;
 import com.taskaura.service.ProjectService;
+import com.taskaura.util.EntityTags;
+import com.taskaura.util.JsonMergePatch;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,28 +28,61 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.createProject(projectDTO));
     }
 
+    // Sending ?cursor= (empty for the first page) switches to keyset pagination.
     @GetMapping
-    public ResponseEntity<Page<ProjectDTO>> getAllProjects(
+    public ResponseEntity<?> getAllProjects(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "6") int size,
-            @RequestParam(defaultValue = "") String search) {
-        return ResponseEntity.ok(projectService.getUserProjects(page, size, search));
+            @RequestParam(defaultValue = "") String search,
+            @RequestParam(required = false) String cursor,
+            WebRequest request) {
+        if (cursor != null) {
+            return ResponseEntity.ok(projectService.getUserProjectsByCursor(cursor, size, search));
+        }
+        if (!search.isBlank()) {
+            return ResponseEntity.ok(projectService.getUserProjects(page, size, search));
+        }
+        String etag = projectService.getUserProjectsETag(page, size);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(projectService.getUserProjects(page, size, search));
     }
 
+    // The tag is read before the body, so a concurrent write can leave it older than the body but never newer.
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectDTO> getProject(@PathVariable Long id) {
-        return ResponseEntity.ok(projectService.getProjectById(id));
+    public ResponseEntity<ProjectDTO> getProject(@PathVariable Long id, WebRequest request) {
+        String etag = projectService.getProjectETag(id);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(projectService.getProjectById(id));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
-        projectService.deleteProject(id);
+    public ResponseEntity<Void> deleteProject(@PathVariable Long id,
+                                              @RequestParam(defaultValue = "false") boolean async,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (async) {
+            projectService.deleteProjectAsync(id, EntityTags.parseIfMatch(ifMatch));
+            return ResponseEntity.accepted().build();
+        }
+        projectService.deleteProject(id, EntityTags.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ProjectDTO> updateProject(@PathVariable Long id,
-                                                    @Valid @RequestBody ProjectDTO projectDTO) {
-        return ResponseEntity.ok(projectService.updateProject(id, projectDTO));
+                                                    @Valid @RequestBody ProjectDTO projectDTO,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProjectDTO updated = projectService.updateProject(id, projectDTO, EntityTags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(updated.getVersion())).body(updated);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ProjectDTO> patchProject(@PathVariable Long id, @RequestBody JsonNode patch,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProjectDTO patched = projectService.patchProject(id, patch, EntityTags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(patched.getVersion())).body(patched);
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.taskaura.controller;
+
+import com.taskaura.dto.SearchResultDTO;
+import com.taskaura.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<List<SearchResultDTO>> search(@RequestParam(defaultValue = "") String q,
+                                                        @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(searchService.search(q, limit));
+    }
+}
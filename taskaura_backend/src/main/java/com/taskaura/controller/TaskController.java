@@ -1,12 +1,27 @@
 package com.taskaura.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskaura.dto.BulkTaskRequestDTO;
+import com.taskaura.dto.BulkTaskResultDTO;
+import com.taskaura.dto.ImportResultDTO;
+import com.taskaura.dto.TaskCompletionDTO;
 import com.taskaura.dto.TaskDTO;
+import com.taskaura.dto.TaskQuery;
+import com.taskaura.exception.APIException;
+import com.taskaura.service.TaskImportService;
 import com.taskaura.service.TaskService;
+import com.taskaura.util.EntityTags;
+import com.taskaura.util.JsonMergePatch;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -15,23 +30,61 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
 
     @PostMapping("/projects/{projectId}/tasks")
     public ResponseEntity<TaskDTO> createTask(@PathVariable Long projectId,
                                               @Valid @RequestBody TaskDTO taskDTO) {
         return ResponseEntity.ok(taskService.createTask(projectId, taskDTO));
     }
+    @PostMapping(value = "/projects/{projectId}/tasks/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResultDTO> importTasksJson(@PathVariable Long projectId, InputStream body) {
+        return ResponseEntity.ok(taskImportService.importJson(projectId, body));
+    }
+    @PostMapping(value = "/projects/{projectId}/tasks/import", consumes = "text/csv")
+    public ResponseEntity<ImportResultDTO> importTasksCsv(@PathVariable Long projectId, InputStream body) {
+        return ResponseEntity.ok(taskImportService.importCsv(projectId, body));
+    }
+    @PostMapping("/projects/{projectId}/tasks/bulk")
+    public ResponseEntity<BulkTaskResultDTO> bulkUpdateTasks(@PathVariable Long projectId,
+                                                             @Valid @RequestBody BulkTaskRequestDTO request) {
+        return ResponseEntity.ok(taskService.bulkUpdate(projectId, request));
+    }
     @GetMapping("/projects/{projectId}/tasks")
-    public ResponseEntity<List<TaskDTO>> getTasksByProject(@PathVariable Long projectId) {
-        return ResponseEntity.ok(taskService.getTasksByProjectId(projectId));
+    public ResponseEntity<?> getTasksByProject(@PathVariable Long projectId, TaskQuery query, WebRequest request) {
+        // ETags are per URL, so the project version alone covers every combination of query parameters.
+        String etag = taskService.getTasksETag(projectId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        if (Boolean.TRUE.equals(query.getAll())) {
+            if (!query.isEmpty()) {
+                throw new APIException("all=true cannot be combined with paging or filter parameters");
+            }
+            return ResponseEntity.ok().eTag(etag).body(taskService.getTasksByProjectId(projectId));
+        }
+        return ResponseEntity.ok().eTag(etag).body(taskService.getTasks(projectId, query));
     }
     @PutMapping("/tasks/{taskId}")
-    public ResponseEntity<TaskDTO> updateTask(@PathVariable Long taskId, @Valid @RequestBody TaskDTO taskDTO) {
-        return ResponseEntity.ok(taskService.updateTask(taskId, taskDTO));
+    public ResponseEntity<TaskDTO> updateTask(@PathVariable Long taskId, @Valid @RequestBody TaskDTO taskDTO,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskDTO updated = taskService.updateTask(taskId, taskDTO, EntityTags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(updated.getVersion())).body(updated);
+    }
+    @PatchMapping(value = "/tasks/{taskId}", consumes = {JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<TaskDTO> patchTask(@PathVariable Long taskId, @RequestBody JsonNode patch,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskDTO patched = taskService.patchTask(taskId, patch, EntityTags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(patched.getVersion())).body(patched);
+    }
+    @PostMapping("/tasks/{taskId}/toggle")
+    public ResponseEntity<TaskCompletionDTO> toggleTask(@PathVariable Long taskId) {
+        return ResponseEntity.ok(taskService.toggleTask(taskId));
     }
     @DeleteMapping("/tasks/{taskId}")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long taskId) {
-        taskService.deleteTask(taskId);
+    public ResponseEntity<Void> deleteTask(@PathVariable Long taskId,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskService.deleteTask(taskId, EntityTags.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.taskaura.dashboard;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskaura.dto.DashboardDTO;
+import com.taskaura.repository.DueDateCountView;
+import com.taskaura.repository.ProjectRepository;
+import com.taskaura.repository.ProjectTallyView;
+import com.taskaura.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * In-memory dashboard aggregates of recently active users. An aggregate is built from the project counters
+ * and one grouped query over open tasks, then kept current by the write paths: single-task and project writes
+ * apply their change once the transaction commits, set-based writes (bulk actions, imports, project deletes)
+ * drop the aggregate so the next read rebuilds it. A write that commits while the same user's aggregate is
+ * being built can be missed or counted twice; the periodic recomputation repairs that.
+ * <p>
+ * Aggregates are per node and only see the writes that node handles. With several instances a write served
+ * elsewhere shows up here at the next recomputation, so a dashboard can be up to
+ * spring.app.dashboardRecomputeMs behind writes made through other nodes.
+ */
+@Component
+public class DashboardAggregates {
+    private static final Logger logger = LoggerFactory.getLogger(DashboardAggregates.class);
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, UserDashboard> dashboards;
+
+    public DashboardAggregates(ProjectRepository projectRepository,
+                               TaskRepository taskRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${spring.app.dashboardCacheMaxSize:10000}") long maxSize,
+                               @Value("${spring.app.dashboardIdleTtlMs:1800000}") long idleTtlMs) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.dashboards = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMillis(idleTtlMs))
+                .build();
+    }
+
+    public DashboardDTO summarize(Long userId, LocalDate today, int topProjects) {
+        return dashboards.get(userId, this::load).summarize(today, topProjects);
+    }
+
+    public void projectCreated(Long userId, Long projectId, String title) {
+        afterCommit(userId, dashboard -> dashboard.putProject(projectId, title, 0, 0));
+    }
+
+    public void projectRenamed(Long userId, Long projectId, String title) {
+        afterCommit(userId, dashboard -> dashboard.renameProject(projectId, title));
+    }
+
+    public void taskAdded(Long userId, Long projectId, boolean completed, LocalDate dueDate) {
+        afterCommit(userId, dashboard -> dashboard.applyTask(projectId, completed, dueDate, 1));
+    }
+
+    public void taskRemoved(Long userId, Long projectId, boolean completed, LocalDate dueDate) {
+        afterCommit(userId, dashboard -> dashboard.applyTask(projectId, completed, dueDate, -1));
+    }
+
+    public void taskChanged(Long userId, Long projectId, boolean wasCompleted, LocalDate previousDueDate,
+                            boolean completed, LocalDate dueDate) {
+        afterCommit(userId, dashboard -> {
+            dashboard.applyTask(projectId, wasCompleted, previousDueDate, -1);
+            dashboard.applyTask(projectId, completed, dueDate, 1);
+        });
+    }
+
+    // For writes whose per-task changes are not known here; invalidating after the commit means the
+    // rebuild cannot read the state from before the write.
+    public void invalidate(Long userId) {
+        runAfterCommit(() -> dashboards.invalidate(userId));
+    }
+
+    // Quiet reads and in-place updates keep the recomputation from extending the idle expiry.
+    @Scheduled(fixedDelayString = "${spring.app.dashboardRecomputeMs:300000}",
+            initialDelayString = "${spring.app.dashboardRecomputeMs:300000}")
+    public void recompute() {
+        int repaired = 0;
+        for (Long userId : dashboards.asMap().keySet()) {
+            UserDashboard current = dashboards.policy().getIfPresentQuietly(userId);
+            if (current == null) {
+                continue;
+            }
+            UserDashboard recomputed = load(userId);
+            if (!current.sameAs(recomputed)) {
+                current.replaceWith(recomputed);
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            logger.warn("Repaired dashboard aggregates of {} user(s)", repaired);
+        }
+    }
+
+    private UserDashboard load(Long userId) {
+        return transactionTemplate.execute(status -> {
+            UserDashboard dashboard = new UserDashboard();
+            for (ProjectTallyView tally : projectRepository.findTalliesByUserId(userId)) {
+                dashboard.putProject(tally.getId(), tally.getTitle(), tally.getTaskCount(), tally.getCompletedTaskCount());
+            }
+            for (DueDateCountView count : taskRepository.countOpenByDueDate(userId)) {
+                dashboard.addOpenDueDate(count.getDueDate(), Math.toIntExact(count.getCount()));
+            }
+            return dashboard;
+        });
+    }
+
+    private void afterCommit(Long userId, Consumer<UserDashboard> change) {
+        runAfterCommit(() -> {
+            UserDashboard dashboard = dashboards.getIfPresent(userId);
+            if (dashboard != null) {
+                change.accept(dashboard);
+            }
+        });
+    }
+
+    // A rolled-back write must not reach the aggregate; outside a transaction the write has already happened.
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
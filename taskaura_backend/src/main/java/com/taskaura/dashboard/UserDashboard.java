@@ -0,0 +1,122 @@
+package com.taskaura.dashboard;
+
+import com.taskaura.dto.DashboardDTO;
+import com.taskaura.dto.DashboardProjectDTO;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * One user's dashboard figures: the task counters of each project and the number of open tasks per due date.
+ * Overdue and due-this-week are read off the due dates when the summary is taken, so the aggregate never
+ * goes stale as days pass. All access is synchronized; readers and write paths of one user rarely collide.
+ */
+class UserDashboard {
+
+    private final Map<Long, ProjectTally> projects = new HashMap<>();
+    private final NavigableMap<LocalDate, Integer> openByDueDate = new TreeMap<>();
+
+    synchronized void putProject(Long projectId, String title, int taskCount, int completedTaskCount) {
+        projects.put(projectId, new ProjectTally(title, taskCount, completedTaskCount));
+    }
+
+    synchronized void renameProject(Long projectId, String title) {
+        ProjectTally tally = projects.get(projectId);
+        if (tally != null) {
+            tally.title = title;
+        }
+    }
+
+    synchronized void addOpenDueDate(LocalDate dueDate, int count) {
+        openByDueDate.merge(dueDate, count, Integer::sum);
+    }
+
+    // delta is +1 for a task that now exists in this state, -1 for one that no longer does.
+    synchronized void applyTask(Long projectId, boolean completed, LocalDate dueDate, int delta) {
+        ProjectTally tally = projects.computeIfAbsent(projectId, id -> new ProjectTally(null, 0, 0));
+        tally.taskCount += delta;
+        if (completed) {
+            tally.completedTaskCount += delta;
+        } else if (dueDate != null) {
+            openByDueDate.merge(dueDate, delta, (current, change) -> current + change == 0 ? null : current + change);
+        }
+    }
+
+    synchronized DashboardDTO summarize(LocalDate today, int topProjects) {
+        long total = 0;
+        long completed = 0;
+        for (ProjectTally tally : projects.values()) {
+            total += tally.taskCount;
+            completed += tally.completedTaskCount;
+        }
+        LocalDate endOfWeek = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        long overdue = sum(openByDueDate.headMap(today, false));
+        long dueThisWeek = sum(openByDueDate.subMap(today, true, endOfWeek, true));
+
+        List<DashboardProjectDTO> top = projects.entrySet().stream()
+                .filter(entry -> entry.getValue().remaining() > 0)
+                .sorted(Comparator.comparingInt((Map.Entry<Long, ProjectTally> entry) -> entry.getValue().remaining())
+                        .reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(topProjects)
+                .map(entry -> new DashboardProjectDTO(entry.getKey(), entry.getValue().title,
+                        entry.getValue().taskCount, entry.getValue().completedTaskCount, entry.getValue().remaining()))
+                .toList();
+        return new DashboardDTO(total, completed, overdue, dueThisWeek, top);
+    }
+
+    // Compares against a freshly recomputed aggregate that no other thread has seen yet.
+    synchronized boolean sameAs(UserDashboard recomputed) {
+        return projects.equals(recomputed.projects) && openByDueDate.equals(recomputed.openByDueDate);
+    }
+
+    synchronized void replaceWith(UserDashboard recomputed) {
+        projects.clear();
+        projects.putAll(recomputed.projects);
+        openByDueDate.clear();
+        openByDueDate.putAll(recomputed.openByDueDate);
+    }
+
+    private static long sum(Map<LocalDate, Integer> counts) {
+        long sum = 0;
+        for (int count : counts.values()) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    private static final class ProjectTally {
+        private String title;
+        private int taskCount;
+        private int completedTaskCount;
+
+        ProjectTally(String title, int taskCount, int completedTaskCount) {
+            this.title = title;
+            this.taskCount = taskCount;
+            this.completedTaskCount = completedTaskCount;
+        }
+
+        int remaining() {
+            return taskCount - completedTaskCount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ProjectTally other && taskCount == other.taskCount
+                    && completedTaskCount == other.completedTaskCount && Objects.equals(title, other.title);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(title, taskCount, completedTaskCount);
+        }
+    }
+}
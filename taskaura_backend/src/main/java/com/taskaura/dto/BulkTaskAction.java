@@ -0,0 +1,8 @@
+package com.taskaura.dto;
+
+public enum BulkTaskAction {
+    COMPLETE,
+    REOPEN,
+    MOVE,
+    DELETE
+}
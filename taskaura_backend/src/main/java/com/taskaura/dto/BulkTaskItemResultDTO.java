@@ -0,0 +1,14 @@
+package com.taskaura.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskItemResultDTO {
+    private Long id;
+    // UPDATED, UNCHANGED, MOVED, DELETED or NOT_FOUND
+    private String status;
+}
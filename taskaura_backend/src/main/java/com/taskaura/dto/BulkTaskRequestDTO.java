@@ -0,0 +1,21 @@
+package com.taskaura.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskRequestDTO {
+    @NotNull(message = "Action is required")
+    private BulkTaskAction action;
+    // Exactly one of ids or filter; an empty filter selects every task of the project.
+    private List<Long> ids;
+    private TaskFilterDTO filter;
+    // Required for MOVE.
+    private Long targetProjectId;
+}
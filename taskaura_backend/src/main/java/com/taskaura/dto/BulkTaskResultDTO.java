@@ -0,0 +1,17 @@
+package com.taskaura.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResultDTO {
+    private BulkTaskAction action;
+    private int affected;
+    // Only filled when the request named ids.
+    private List<BulkTaskItemResultDTO> results;
+}
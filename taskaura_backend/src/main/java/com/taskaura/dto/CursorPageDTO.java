@@ -0,0 +1,17 @@
+package com.taskaura.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> content;
+    // Pass back as ?cursor= to fetch the next page; null on the last page.
+    private String nextCursor;
+    private boolean hasNext;
+}
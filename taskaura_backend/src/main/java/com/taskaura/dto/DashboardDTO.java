@@ -0,0 +1,20 @@
+package com.taskaura.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDTO {
+    private long totalTasks;
+    private long completedTasks;
+    // Open tasks due before today.
+    private long overdueTasks;
+    // Open tasks due from today through Sunday.
+    private long dueThisWeek;
+    private List<DashboardProjectDTO> topProjects;
+}
@@ -0,0 +1,16 @@
+package com.taskaura.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardProjectDTO {
+    private Long id;
+    private String title;
+    private int taskCount;
+    private int completedTaskCount;
+    private int remainingTaskCount;
+}
@@ -0,0 +1,24 @@
+package com.taskaura.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// One project/task pair of the export join; the task columns are null for a project without tasks.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportRowDTO {
+    private Long projectId;
+    private String projectTitle;
+    private String projectDescription;
+    private LocalDateTime projectCreatedAt;
+    private Long taskId;
+    private String taskTitle;
+    private String taskDescription;
+    private LocalDate taskDueDate;
+    private Boolean taskCompleted;
+}
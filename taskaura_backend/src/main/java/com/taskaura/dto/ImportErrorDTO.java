@@ -0,0 +1,14 @@
+package com.taskaura.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportErrorDTO {
+    // 1-based position of the element (JSON) or data line (CSV).
+    private int row;
+    private String message;
+}
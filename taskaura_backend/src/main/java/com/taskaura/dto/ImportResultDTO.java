@@ -0,0 +1,17 @@
+package com.taskaura.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDTO {
+    private int imported;
+    private int rejected;
+    // Only the first rejected rows are listed; rejected holds the full count.
+    private List<ImportErrorDTO> errors;
+}
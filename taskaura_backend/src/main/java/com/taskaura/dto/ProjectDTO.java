@@ -17,4 +17,5 @@ public class ProjectDTO {
     private int taskCount;
     private int completedTaskCount;
     private int progressPercentage;
+    private long version;
 }
\ No newline at end of file
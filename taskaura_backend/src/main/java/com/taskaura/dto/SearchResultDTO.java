@@ -0,0 +1,18 @@
+package com.taskaura.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDTO {
+    private String type;
+    private Long id;
+    private Long projectId;
+    // HTML-escaped, with matched terms wrapped in <mark>.
+    private String title;
+    private String snippet;
+    private double score;
+}
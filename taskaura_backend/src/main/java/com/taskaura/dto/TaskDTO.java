@@ -16,4 +16,5 @@ public class TaskDTO {
     private LocalDate dueDate;
     private boolean completed;
     private Long projectId;
+    private long version;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.taskaura.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterDTO {
+    private Boolean completed;
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+    private String titlePrefix;
+}
@@ -0,0 +1,33 @@
+package com.taskaura.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Query parameters of GET /api/projects/{projectId}/tasks. Without any the endpoint returns the first
+ * page; the unbounded plain list is only returned for all=true.
+ */
+@Data
+@NoArgsConstructor
+public class TaskQuery {
+    private String cursor;
+    private Integer limit;
+    private Boolean completed;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+    private String titlePrefix;
+    // "id" (default) or "dueDate", both ascending.
+    private String sort;
+    private Boolean all;
+
+    // Whether any paging or filter parameter is set; all is not one of them.
+    public boolean isEmpty() {
+        return cursor == null && limit == null && completed == null && dueFrom == null && dueTo == null
+                && titlePrefix == null && sort == null;
+    }
+}
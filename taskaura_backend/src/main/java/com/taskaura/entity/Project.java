@@ -6,19 +6,30 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_user_created_id", columnList = "user_id, created_at DESC, id DESC")
+})
+// Cached in the second-level cache (see SecondLevelCacheConfig). The counter UPDATEs are native statements
+// (CachedRowLocks.nativeWrite) that soft-lock only the projects they change instead of evicting the region.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Project title is required")
@@ -30,12 +41,27 @@ public class Project {
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
+    // Maintained by TaskServiceImpl through atomic UPDATEs, never by entity writes.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int taskCount = 0;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int completedTaskCount = 0;
+
+    // Task writes bump it as well (see ProjectRepository.adjustTaskCounters), so it also versions the task list.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @ToString.Exclude
     private User user;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-tasks")
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private java.util.List<Task> tasks;
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.taskaura.entity;
 
+import com.taskaura.security.jwt.TokenRevocationListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -7,18 +8,25 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.Instant;
 
 @Entity
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = "email")
 })
+@EntityListeners(TokenRevocationListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Email cannot be empty")
@@ -34,4 +42,7 @@ public class User {
     @NotBlank(message = "Username cannot be empty")
     @Column(nullable = false)
     private String username;
+
+    // Tokens issued before this are rejected; null until the account first changes.
+    private Instant tokensValidAfter;
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.taskaura.limiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Additive-increase / multiplicative-decrease concurrency limit. A request that completes within the latency
+ * target while the limit was at least half used raises the limit by one. A slow or failed (5xx) request cuts it
+ * by the backoff ratio, never below the floor.
+ */
+public class AimdLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyTargetNanos;
+
+    private int limit;
+    private int inFlight;
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyTargetMs) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMs);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    public synchronized void release(long latencyNanos, boolean failed) {
+        boolean saturated = inFlight * 2 >= limit;
+        inFlight--;
+        if (failed || latencyNanos > latencyTargetNanos) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (saturated) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized double utilization() {
+        return (double) inFlight / limit;
+    }
+}
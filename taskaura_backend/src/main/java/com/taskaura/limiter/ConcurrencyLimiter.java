@@ -0,0 +1,66 @@
+package com.taskaura.limiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One AimdLimit per RouteClass. Bulk work additionally yields to reads: it is only admitted while the read
+ * class uses less than spring.app.limiterBulkYieldUtilization of its limit.
+ */
+@Component
+public class ConcurrencyLimiter {
+
+    private final boolean enabled;
+    private final double bulkYieldUtilization;
+    private final Map<RouteClass, AimdLimit> limits = new EnumMap<>(RouteClass.class);
+    private final Map<RouteClass, Counter> rejections = new EnumMap<>(RouteClass.class);
+
+    public ConcurrencyLimiter(MeterRegistry meterRegistry,
+                              @Value("${spring.app.limiterEnabled:true}") boolean enabled,
+                              @Value("${spring.app.limiterMinLimit:2}") int minLimit,
+                              @Value("${spring.app.limiterMaxLimit:200}") int maxLimit,
+                              @Value("${spring.app.limiterBackoffRatio:0.9}") double backoffRatio,
+                              @Value("${spring.app.limiterBulkYieldUtilization:0.75}") double bulkYieldUtilization,
+                              @Value("${spring.app.limiterAuthLatencyMs:2000}") long authLatencyMs,
+                              @Value("${spring.app.limiterReadLatencyMs:500}") long readLatencyMs,
+                              @Value("${spring.app.limiterWriteLatencyMs:1000}") long writeLatencyMs,
+                              @Value("${spring.app.limiterBulkLatencyMs:10000}") long bulkLatencyMs) {
+        this.enabled = enabled;
+        this.bulkYieldUtilization = bulkYieldUtilization;
+        limits.put(RouteClass.AUTH, new AimdLimit(10, minLimit, maxLimit, backoffRatio, authLatencyMs));
+        limits.put(RouteClass.READ, new AimdLimit(40, minLimit, maxLimit, backoffRatio, readLatencyMs));
+        limits.put(RouteClass.WRITE, new AimdLimit(20, minLimit, maxLimit, backoffRatio, writeLatencyMs));
+        limits.put(RouteClass.BULK, new AimdLimit(4, minLimit, maxLimit, backoffRatio, bulkLatencyMs));
+        limits.forEach((routeClass, limit) -> {
+            String tag = routeClass.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("taskaura.limiter.limit", limit, AimdLimit::getLimit).tag("class", tag).register(meterRegistry);
+            Gauge.builder("taskaura.limiter.inflight", limit, AimdLimit::getInFlight).tag("class", tag).register(meterRegistry);
+            rejections.put(routeClass, meterRegistry.counter("taskaura.limiter.rejected", "class", tag));
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean tryAcquire(RouteClass routeClass) {
+        boolean admitted = (routeClass != RouteClass.BULK
+                || limits.get(RouteClass.READ).utilization() < bulkYieldUtilization)
+                && limits.get(routeClass).tryAcquire();
+        if (!admitted) {
+            rejections.get(routeClass).increment();
+        }
+        return admitted;
+    }
+
+    public void release(RouteClass routeClass, long latencyNanos, boolean failed) {
+        limits.get(routeClass).release(latencyNanos, failed);
+    }
+}
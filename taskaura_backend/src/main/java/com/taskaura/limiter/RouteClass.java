@@ -0,0 +1,28 @@
+package com.taskaura.limiter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Traffic classes that get a concurrency limit of their own, so a slow class cannot use up the others' share.
+ */
+public enum RouteClass {
+    AUTH,
+    READ,
+    WRITE,
+    // Bulk task operations, imports and exports: long-running and the first to be shed
+    BULK;
+
+    public static RouteClass of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/auth/")) {
+            return AUTH;
+        }
+        if (path.startsWith("/api/export") || path.endsWith("/bulk") || path.endsWith("/import")) {
+            return BULK;
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+}
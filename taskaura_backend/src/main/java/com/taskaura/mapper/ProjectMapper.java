@@ -0,0 +1,41 @@
+package com.taskaura.mapper;
+
+import com.taskaura.dto.ProjectDTO;
+import com.taskaura.entity.Project;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface ProjectMapper {
+
+    @Mapping(target = "progressPercentage", ignore = true)
+    ProjectDTO toDto(Project project);
+
+    // Ids come from the sequence; a client-supplied id would turn save() into a merge of an existing row.
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "tasks", ignore = true)
+    @Mapping(target = "taskCount", ignore = true)
+    @Mapping(target = "completedTaskCount", ignore = true)
+    Project toEntity(ProjectDTO projectDTO);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "tasks", ignore = true)
+    @Mapping(target = "taskCount", ignore = true)
+    @Mapping(target = "completedTaskCount", ignore = true)
+    void updateEntity(ProjectDTO projectDTO, @MappingTarget Project project);
+
+    @AfterMapping
+    default void computeProgress(Project project, @MappingTarget ProjectDTO dto) {
+        int total = project.getTaskCount();
+        dto.setProgressPercentage(total == 0 ? 0
+                : (int) Math.round(((double) project.getCompletedTaskCount() / total) * 100));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.taskaura.mapper;
+
+import com.taskaura.dto.TaskDTO;
+import com.taskaura.entity.Task;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface TaskMapper {
+
+    @Mapping(target = "projectId", source = "project.id")
+    TaskDTO toDto(Task task);
+
+    // Ids come from the sequence; a client-supplied id would turn save() into a merge of an existing row.
+    // The owning project is always resolved and set by the service.
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "project", ignore = true)
+    Task toEntity(TaskDTO taskDTO);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "project", ignore = true)
+    void updateEntity(TaskDTO taskDTO, @MappingTarget Task task);
+}
\ No newline at end of file
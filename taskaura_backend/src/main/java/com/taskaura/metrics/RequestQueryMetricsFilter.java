@@ -0,0 +1,56 @@
+package com.taskaura.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many statements, rows, entity loads and collection fetches each request caused, tagged
+ * like http.server.requests. A route whose statements grow with its rows is the usual sign of an N+1.
+ * Runs ahead of Spring Security so the queries made while authenticating are included.
+ */
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestQueryMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            Tags tags = Tags.of("method", request.getMethod(), "uri", uri(request),
+                    "status", String.valueOf(response.getStatus()));
+            record("taskaura.request.jdbc.statements", tags, stats.getStatements());
+            record("taskaura.request.jdbc.rows", tags, stats.getRows());
+            record("taskaura.request.hibernate.entity.loads", tags, stats.getEntityLoads());
+            record("taskaura.request.hibernate.collection.fetches", tags, stats.getCollectionFetches());
+        }
+    }
+
+    private void record(String name, Tags tags, long value) {
+        DistributionSummary.builder(name)
+                .tags(tags)
+                .register(meterRegistry)
+                .record(value);
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
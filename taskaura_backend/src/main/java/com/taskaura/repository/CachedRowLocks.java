@@ -0,0 +1,80 @@
+package com.taskaura.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keeps the second-level cache consistent with native statements that change cached rows by id. Hibernate
+ * evicts a whole region after a bulk statement on its table, so one task write would empty the projects region
+ * for every user. Instead the statements name a query space no region is mapped to, and the entries they change
+ * are soft-locked here the way Hibernate locks an entity it updates: until the transaction completes readers
+ * miss, and a reader that started before the commit cannot put the old state back.
+ */
+final class CachedRowLocks {
+
+    private static final String UNCACHED_SPACE = "taskaura_row_writes";
+
+    private CachedRowLocks() {
+    }
+
+    static Query nativeWrite(EntityManager entityManager, String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(UNCACHED_SPACE);
+    }
+
+    // The tenant part of the cache keys is null: the application is not multi-tenant.
+    static void lockEntities(EntityManager entityManager, Class<?> entityClass, Collection<?> ids) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        SessionFactoryImplementor factory = session.getFactory();
+        EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor(entityClass);
+        if (persister.canWriteToCache()) {
+            lock(session, persister.getCacheAccessStrategy(), ids,
+                    id -> persister.getCacheAccessStrategy().generateCacheKey(id, persister, factory, null));
+        }
+    }
+
+    // role is the collection's entity class and property, e.g. "com.taskaura.entity.Project.tasks".
+    static void lockCollections(EntityManager entityManager, String role, Collection<?> ownerIds) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        SessionFactoryImplementor factory = session.getFactory();
+        CollectionPersister persister = factory.getMappingMetamodel().getCollectionDescriptor(role);
+        if (persister.hasCache()) {
+            lock(session, persister.getCacheAccessStrategy(), ownerIds,
+                    id -> persister.getCacheAccessStrategy().generateCacheKey(id, persister, factory, null));
+        }
+    }
+
+    private static void lock(SessionImplementor session, CachedDomainDataAccess access, Collection<?> ids,
+                             Function<Object, Object> cacheKey) {
+        List<Object> keys = new ArrayList<>(ids.size());
+        List<SoftLock> locks = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            Object key = cacheKey.apply(id);
+            keys.add(key);
+            locks.add(access.lockItem(session, key, null));
+        }
+        session.getActionQueue().registerProcess((success, completedSession) -> {
+            for (int i = 0; i < keys.size(); i++) {
+                access.unlockItem(completedSession, keys.get(i), locks.get(i));
+                // The lock keeps the version the entry had; after a rollback the row still has it, so the
+                // entry would stay unwritable until the lock times out. The row is unchanged, drop the lock.
+                if (!success) {
+                    access.evict(keys.get(i));
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskaura.repository;
+
+import java.time.LocalDate;
+
+public interface DueDateCountView {
+    LocalDate getDueDate();
+    Long getCount();
+}
@@ -0,0 +1,13 @@
+package com.taskaura.repository;
+
+/**
+ * The atomic counter UPDATE behind every task write. It also bumps the project version, so the version
+ * identifies the state of the project's task list.
+ */
+public interface ProjectCounterOperations {
+
+    int adjustTaskCounters(Long projectId, int taskDelta, int completedDelta);
+
+    // Recounts only the projects whose counters differ from their tasks; the others keep their version.
+    int reconcileTaskCounters();
+}
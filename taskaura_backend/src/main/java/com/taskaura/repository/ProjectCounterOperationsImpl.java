@@ -0,0 +1,54 @@
+package com.taskaura.repository;
+
+import com.taskaura.entity.Project;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ProjectCounterOperationsImpl implements ProjectCounterOperations {
+
+    private static final String TASK_COUNT = "(SELECT COUNT(*) FROM tasks t WHERE t.project_id = projects.id)";
+    private static final String COMPLETED_TASK_COUNT =
+            "(SELECT COUNT(*) FROM tasks t WHERE t.project_id = projects.id AND t.completed = TRUE)";
+    // Keeps IN lists well below the bind parameter limits of the drivers.
+    private static final int IDS_PER_STATEMENT = 1000;
+
+    private final EntityManager entityManager;
+
+    // Native, so only this project's cache entry is invalidated rather than the whole projects region.
+    @Override
+    public int adjustTaskCounters(Long projectId, int taskDelta, int completedDelta) {
+        CachedRowLocks.lockEntities(entityManager, Project.class, List.of(projectId));
+        return CachedRowLocks.nativeWrite(entityManager, "UPDATE projects SET task_count = task_count + :taskDelta, " +
+                        "completed_task_count = completed_task_count + :completedDelta, version = version + 1 " +
+                        "WHERE id = :projectId")
+                .setParameter("taskDelta", taskDelta)
+                .setParameter("completedDelta", completedDelta)
+                .setParameter("projectId", projectId)
+                .executeUpdate();
+    }
+
+    // The drifted ids are read first so only their cache entries are soft-locked. The UPDATE repeats the
+    // comparison, so a project whose counters were corrected in between keeps its version.
+    @Override
+    public int reconcileTaskCounters() {
+        List<Long> ids = entityManager.createQuery("SELECT p.id FROM Project p " +
+                        "WHERE p.taskCount <> (SELECT COUNT(t) FROM Task t WHERE t.project.id = p.id) " +
+                        "OR p.completedTaskCount <> (SELECT COUNT(t) FROM Task t WHERE t.project.id = p.id AND t.completed = true)",
+                        Long.class)
+                .getResultList();
+        CachedRowLocks.lockEntities(entityManager, Project.class, ids);
+        int repaired = 0;
+        for (int from = 0; from < ids.size(); from += IDS_PER_STATEMENT) {
+            repaired += CachedRowLocks.nativeWrite(entityManager, "UPDATE projects SET task_count = " + TASK_COUNT +
+                            ", completed_task_count = " + COMPLETED_TASK_COUNT + ", version = version + 1 " +
+                            "WHERE id IN (:ids) AND (task_count <> " + TASK_COUNT +
+                            " OR completed_task_count <> " + COMPLETED_TASK_COUNT + ")")
+                    .setParameter("ids", ids.subList(from, Math.min(from + IDS_PER_STATEMENT, ids.size())))
+                    .executeUpdate();
+        }
+        return repaired;
+    }
+}
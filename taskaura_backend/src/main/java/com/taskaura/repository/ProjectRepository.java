@@ -1,16 +1,78 @@
 package com.taskaura.repository;
 
+import com.taskaura.dto.ExportRowDTO;
 import com.taskaura.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectCounterOperations {
 
-//    List<Project> findByUserId(Long userId);
-Page<Project> findByUserIdAndTitleContainingIgnoreCase(Long userId, String title, Pageable pageable);
-}
\ No newline at end of file
+    List<Project> findByUserId(Long userId);
+
+    Page<Project> findByUserId(Long userId, Pageable pageable);
+
+    // Keyset pages: the Pageable carries the (createdAt DESC, id DESC) sort, and a Slice skips the count query.
+    @Query("SELECT p FROM Project p WHERE p.user.id = :userId")
+    Slice<Project> findSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // The redundant createdAt <= bound gives the index a range to seek to instead of filtering the OR.
+    @Query("SELECT p FROM Project p WHERE p.user.id = :userId AND p.createdAt <= :createdAt " +
+            "AND (p.createdAt < :createdAt OR p.id < :id)")
+    Slice<Project> findSliceByUserIdAfter(@Param("userId") Long userId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    // Ownership is part of the lookup; user_id is a column of projects, so neither needs a join.
+    Optional<Project> findByIdAndUserId(Long id, Long userId);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    // Version-only reads answer conditional GETs without loading or mapping entities.
+    @Query("SELECT p.version FROM Project p WHERE p.id = :id AND p.user.id = :userId")
+    Optional<Long> findVersionByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT p.id AS id, p.version AS version FROM Project p WHERE p.user.id = :userId")
+    Page<ProjectVersionView> findVersionsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.taskCount AS taskCount, p.completedTaskCount AS completedTaskCount " +
+            "FROM Project p WHERE p.user.id = :userId")
+    List<ProjectTallyView> findTalliesByUserId(@Param("userId") Long userId);
+
+    // Tasks go with it through the ON DELETE CASCADE foreign key, without being loaded. Hibernate cannot see
+    // the cascade, so the statements are native and name both tables as query spaces: committing evicts the
+    // cached projects and tasks (and Project.tasks collections) instead of leaving tasks of a deleted project.
+    @Modifying
+    @Query(value = "DELETE FROM projects WHERE id = :id AND user_id = :userId", nativeQuery = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks")})
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM projects WHERE id = :id AND user_id = :userId AND version = :version", nativeQuery = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks")})
+    int deleteByIdAndUserIdAndVersion(@Param("id") Long id, @Param("userId") Long userId, @Param("version") long version);
+
+    // Scalar rows keep the persistence context empty; the fetch size makes PostgreSQL stream through a cursor.
+    @Query("SELECT new com.taskaura.dto.ExportRowDTO(p.id, p.title, p.description, p.createdAt, " +
+            "t.id, t.title, t.description, t.dueDate, t.completed) " +
+            "FROM Project p LEFT JOIN p.tasks t WHERE p.user.id = :userId ORDER BY p.id, t.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<ExportRowDTO> streamExportRows(@Param("userId") Long userId);
+}
@@ -0,0 +1,8 @@
+package com.taskaura.repository;
+
+public interface ProjectTallyView {
+    Long getId();
+    String getTitle();
+    Integer getTaskCount();
+    Integer getCompletedTaskCount();
+}
@@ -0,0 +1,6 @@
+package com.taskaura.repository;
+
+public interface ProjectVersionView {
+    Long getId();
+    Long getVersion();
+}
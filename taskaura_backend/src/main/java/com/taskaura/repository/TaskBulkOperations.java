@@ -0,0 +1,21 @@
+package com.taskaura.repository;
+
+import com.taskaura.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Set-based UPDATE/DELETE statements over the tasks matched by a Specification, and the single-task
+ * toggle. They bypass the persistence context, so callers keep the project counters in step themselves.
+ */
+public interface TaskBulkOperations {
+
+    // Flips the flag without loading the task; ownership is checked by the same statement.
+    int toggleCompleted(Long id, Long userId);
+
+    // Only touches rows whose state actually changes, so the count is the counter delta.
+    int updateCompleted(Specification<Task> spec, boolean completed);
+
+    int moveToProject(Specification<Task> spec, Long targetProjectId);
+
+    int deleteMatching(Specification<Task> spec);
+}
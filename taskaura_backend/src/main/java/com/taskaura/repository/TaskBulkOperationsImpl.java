@@ -0,0 +1,106 @@
+package com.taskaura.repository;
+
+import com.taskaura.entity.Project;
+import com.taskaura.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * The statements are native and work on ids, so the second-level cache only loses the affected tasks
+ * (see CachedRowLocks). The matching rows are selected FOR UPDATE first, which keeps the returned counts
+ * exact when a concurrent write changes one of them in between.
+ */
+@RequiredArgsConstructor
+public class TaskBulkOperationsImpl implements TaskBulkOperations {
+
+    private static final String PROJECT_TASKS = Project.class.getName() + ".tasks";
+    // Keeps IN lists well below the bind parameter limits of the drivers.
+    private static final int IDS_PER_STATEMENT = 1000;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int toggleCompleted(Long id, Long userId) {
+        int toggled = CachedRowLocks.nativeWrite(entityManager, "UPDATE tasks SET completed = NOT completed, " +
+                        "version = version + 1 " +
+                        "WHERE id = :id AND project_id IN (SELECT p.id FROM projects p WHERE p.user_id = :userId)")
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .executeUpdate();
+        // Locked after the statement, which leaves another user's task cached; the row lock the UPDATE holds
+        // keeps the uncommitted state from being read, and an older read cannot be put over the soft lock.
+        if (toggled > 0) {
+            CachedRowLocks.lockEntities(entityManager, Task.class, List.of(id));
+        }
+        return toggled;
+    }
+
+    // Only touches rows whose state actually changes, so the count is the counter delta.
+    @Override
+    public int updateCompleted(Specification<Task> spec, boolean completed) {
+        List<Long> ids = lockMatching(spec.and((root, query, cb) -> cb.notEqual(root.get("completed"), completed)))
+                .stream().map(row -> (Long) row[0]).toList();
+        CachedRowLocks.lockEntities(entityManager, Task.class, ids);
+        return inChunks(ids, chunk -> CachedRowLocks.nativeWrite(entityManager,
+                        "UPDATE tasks SET completed = :completed, version = version + 1 WHERE id IN (:ids)")
+                .setParameter("completed", completed)
+                .setParameter("ids", chunk)
+                .executeUpdate());
+    }
+
+    @Override
+    public int moveToProject(Specification<Task> spec, Long targetProjectId) {
+        List<Object[]> rows = lockMatching(spec);
+        List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+        Set<Long> projectIds = new HashSet<>(rows.stream().map(row -> (Long) row[1]).toList());
+        projectIds.add(targetProjectId);
+        CachedRowLocks.lockEntities(entityManager, Task.class, ids);
+        CachedRowLocks.lockCollections(entityManager, PROJECT_TASKS, projectIds);
+        return inChunks(ids, chunk -> CachedRowLocks.nativeWrite(entityManager,
+                        "UPDATE tasks SET project_id = :projectId, version = version + 1 WHERE id IN (:ids)")
+                .setParameter("projectId", targetProjectId)
+                .setParameter("ids", chunk)
+                .executeUpdate());
+    }
+
+    @Override
+    public int deleteMatching(Specification<Task> spec) {
+        List<Object[]> rows = lockMatching(spec);
+        List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+        CachedRowLocks.lockEntities(entityManager, Task.class, ids);
+        CachedRowLocks.lockCollections(entityManager, PROJECT_TASKS, new HashSet<>(rows.stream().map(row -> (Long) row[1]).toList()));
+        return inChunks(ids, chunk -> CachedRowLocks.nativeWrite(entityManager, "DELETE FROM tasks WHERE id IN (:ids)")
+                .setParameter("ids", chunk)
+                .executeUpdate());
+    }
+
+    // (task id, project id) of every matching row, locked until the transaction ends.
+    private List<Object[]> lockMatching(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Task> root = query.from(Task.class);
+        query.multiselect(root.<Long>get("id"), root.get("project").<Long>get("id"))
+                .where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+    }
+
+    private static int inChunks(List<Long> ids, ToIntFunction<List<Long>> statement) {
+        int affected = 0;
+        for (int from = 0; from < ids.size(); from += IDS_PER_STATEMENT) {
+            affected += statement.applyAsInt(ids.subList(from, Math.min(from + IDS_PER_STATEMENT, ids.size())));
+        }
+        return affected;
+    }
+}
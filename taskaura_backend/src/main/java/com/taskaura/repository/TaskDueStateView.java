@@ -0,0 +1,9 @@
+package com.taskaura.repository;
+
+import java.time.LocalDate;
+
+public interface TaskDueStateView {
+    Long getProjectId();
+    Boolean getCompleted();
+    LocalDate getDueDate();
+}
@@ -1,13 +1,45 @@
 package com.taskaura.repository;
 
 import com.taskaura.entity.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskBulkOperations {
 
     List<Task> findByProjectId(Long projectId);
+
+    List<Task> findByProjectUserId(Long userId);
+
+    @Query("SELECT t FROM Task t JOIN t.project p WHERE t.id = :id AND p.user.id = :userId")
+    Optional<Task> findByIdAndProjectUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // Without a query space Hibernate would evict every second-level cache region after a native statement.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "DELETE FROM tasks WHERE id IN (SELECT id FROM tasks WHERE project_id = :projectId LIMIT :limit)",
+            nativeQuery = true)
+    int deleteChunkByProjectId(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    @Query("SELECT t.project.id AS projectId, t.completed AS completed, t.dueDate AS dueDate FROM Task t WHERE t.id = :id")
+    TaskDueStateView findDueStateById(@Param("id") Long id);
+
+    // Open tasks per due date across the user's projects; served by the (project_id, completed, due_date) index.
+    @Query("SELECT t.dueDate AS dueDate, COUNT(t) AS count FROM Task t " +
+            "WHERE t.project.user.id = :userId AND t.completed = false AND t.dueDate IS NOT NULL GROUP BY t.dueDate")
+    List<DueDateCountView> countOpenByDueDate(@Param("userId") Long userId);
+
+    @Query("SELECT t.id AS id, t.completed AS completed FROM Task t WHERE t.project.id = :projectId AND t.id IN :ids")
+    List<TaskStateView> findStatesByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
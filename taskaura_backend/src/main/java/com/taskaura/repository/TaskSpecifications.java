@@ -0,0 +1,59 @@
+package com.taskaura.repository;
+
+import com.taskaura.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Task> completed(Boolean completed) {
+        return completed == null ? null : (root, query, cb) -> cb.equal(root.get("completed"), completed);
+    }
+
+    public static Specification<Task> dueFrom(LocalDate from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    public static Specification<Task> dueTo(LocalDate to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), to);
+    }
+
+    // Matches the lower(title) text_pattern_ops index in schema-postgresql.sql.
+    public static Specification<Task> titleStartsWith(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        String pattern = prefix.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("title")), pattern, '\\');
+    }
+
+    public static Specification<Task> afterId(Long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+
+    // Tasks without a due date sort last (PostgreSQL's default for ASC), so they follow every dated task.
+    public static Specification<Task> afterDueDate(LocalDate dueDate, Long id) {
+        if (dueDate == null) {
+            return (root, query, cb) -> cb.and(cb.isNull(root.get("dueDate")), cb.greaterThan(root.get("id"), id));
+        }
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("dueDate"), dueDate),
+                cb.and(cb.equal(root.get("dueDate"), dueDate), cb.greaterThan(root.get("id"), id)),
+                cb.isNull(root.get("dueDate")));
+    }
+}
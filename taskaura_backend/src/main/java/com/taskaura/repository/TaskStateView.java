@@ -0,0 +1,6 @@
+package com.taskaura.repository;
+
+public interface TaskStateView {
+    Long getId();
+    Boolean getCompleted();
+}
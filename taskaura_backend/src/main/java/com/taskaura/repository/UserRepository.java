@@ -2,6 +2,9 @@ package com.taskaura.repository;
 
 import com.taskaura.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +15,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Boolean existsByEmail(String email);
+
+    // A scalar read, so it always comes from the database and never from a node's second-level cache.
+    @Query("SELECT u.id AS id, u.tokensValidAfter AS tokensValidAfter FROM User u WHERE u.id = :id")
+    Optional<UserTokenStateView> findTokenStateById(@Param("id") Long id);
+
+    // Bulk UPDATE on purpose: it skips the entity listeners, so re-hashing does not revoke the user's tokens.
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.taskaura.repository;
+
+import java.time.Instant;
+
+public interface UserTokenStateView {
+    Long getId();
+    Instant getTokensValidAfter();
+}
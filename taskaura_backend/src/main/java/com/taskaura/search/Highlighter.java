@@ -0,0 +1,23 @@
+package com.taskaura.search;
+
+import org.springframework.web.util.HtmlUtils;
+
+final class Highlighter {
+
+    // Control characters cannot occur in the escaped output, so they survive escaping
+    // and are swapped for the real tags afterwards.
+    static final String START = "\u0002";
+    static final String STOP = "\u0003";
+
+    private Highlighter() {
+    }
+
+    static String toHtml(String marked) {
+        if (marked == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(marked)
+                .replace(START, "<mark>")
+                .replace(STOP, "</mark>");
+    }
+}
@@ -0,0 +1,124 @@
+package com.taskaura.search;
+
+import com.taskaura.dto.SearchResultDTO;
+import com.taskaura.entity.Project;
+import com.taskaura.entity.Task;
+import com.taskaura.repository.ProjectRepository;
+import com.taskaura.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Scans the user's rows in the JVM. Meant for H2-backed tests and local runs without
+ * PostgreSQL: every term has to appear in the title or description, with title hits ranked higher.
+ * There is no stemming or fuzzy matching.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.app.searchEngine", havingValue = "memory")
+@RequiredArgsConstructor
+public class InMemorySearchEngine implements SearchEngine {
+
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchResultDTO> search(Long userId, String query, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Pattern highlight = highlightPattern(terms);
+        Stream<SearchResultDTO> projects = projectRepository.findByUserId(userId).stream()
+                .map(project -> hit(SearchEngine.PROJECT, project.getId(), project.getId(),
+                        project.getTitle(), project.getDescription(), terms, highlight));
+        Stream<SearchResultDTO> tasks = taskRepository.findByProjectUserId(userId).stream()
+                .map(task -> hit(SearchEngine.TASK, task.getId(), task.getProject().getId(),
+                        task.getTitle(), task.getDescription(), terms, highlight));
+        return Stream.concat(projects, tasks)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingDouble(SearchResultDTO::getScore).reversed()
+                        .thenComparing(SearchResultDTO::getId, Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Long> searchProjectIds(Long userId, String query, Pageable pageable) {
+        List<String> terms = terms(query);
+        List<Project> matches = terms.isEmpty() ? List.of() : projectRepository.findByUserId(userId).stream()
+                .filter(project -> score(project.getTitle(), project.getDescription(), terms) > 0)
+                .sorted(Comparator.<Project>comparingDouble(project -> score(project.getTitle(), project.getDescription(), terms))
+                        .reversed()
+                        .thenComparing(Project::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(Project::getId, Comparator.reverseOrder()))
+                .toList();
+        List<Long> ids = matches.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(Project::getId)
+                .toList();
+        return new PageImpl<>(ids, pageable, matches.size());
+    }
+
+    private static SearchResultDTO hit(String type, Long id, Long projectId, String title, String description,
+                                       List<String> terms, Pattern highlight) {
+        double score = score(title, description, terms);
+        if (score == 0) {
+            return null;
+        }
+        return new SearchResultDTO(type, id, projectId,
+                Highlighter.toHtml(mark(title, highlight)),
+                Highlighter.toHtml(mark(description, highlight)),
+                score);
+    }
+
+    private static double score(String title, String description, List<String> terms) {
+        String lowerTitle = title == null ? "" : title.toLowerCase(Locale.ROOT);
+        String lowerDescription = description == null ? "" : description.toLowerCase(Locale.ROOT);
+        double score = 0;
+        for (String term : terms) {
+            boolean inTitle = lowerTitle.contains(term);
+            boolean inDescription = lowerDescription.contains(term);
+            if (!inTitle && !inDescription) {
+                return 0;
+            }
+            score += (inTitle ? 2 : 0) + (inDescription ? 1 : 0);
+        }
+        return score;
+    }
+
+    private static List<String> terms(String query) {
+        return Arrays.stream(TERM_SEPARATOR.split(query.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static Pattern highlightPattern(List<String> terms) {
+        StringJoiner alternatives = new StringJoiner("|");
+        terms.forEach(term -> alternatives.add(Pattern.quote(term)));
+        return Pattern.compile(alternatives.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    private static String mark(String text, Pattern highlight) {
+        if (text == null) {
+            return null;
+        }
+        return highlight.matcher(text).replaceAll(match ->
+                Matcher.quoteReplacement(Highlighter.START + match.group() + Highlighter.STOP));
+    }
+}
@@ -0,0 +1,99 @@
+package com.taskaura.search;
+
+import com.taskaura.dto.SearchResultDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Uses the search_vector columns and the GIN full-text and trigram indexes created by
+ * schema-postgresql.sql. A row matches on the full-text query, on a substring of its title
+ * (what the old LIKE search did) or on a fuzzy word match of its title.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.app.searchEngine", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresSearchEngine implements SearchEngine {
+
+    private static final String TITLE_OPTIONS =
+            "StartSel=" + Highlighter.START + ", StopSel=" + Highlighter.STOP + ", HighlightAll=true";
+    private static final String SNIPPET_OPTIONS =
+            "StartSel=" + Highlighter.START + ", StopSel=" + Highlighter.STOP + ", MaxFragments=2, MaxWords=20, MinWords=5";
+
+    private static final String PROJECT_MATCH =
+            "p.user_id = :userId AND (p.search_vector @@ query OR p.title ILIKE :like OR :q <% p.title)";
+
+    private static final String PROJECT_IDS_SQL =
+            "SELECT p.id FROM projects p, websearch_to_tsquery('simple', :q) query " +
+            "WHERE " + PROJECT_MATCH + " " +
+            "ORDER BY ts_rank(p.search_vector, query) + word_similarity(:q, p.title) DESC, p.created_at DESC, p.id DESC " +
+            "LIMIT :limit OFFSET :offset";
+
+    private static final String PROJECT_COUNT_SQL =
+            "SELECT COUNT(*) FROM projects p, websearch_to_tsquery('simple', :q) query WHERE " + PROJECT_MATCH;
+
+    // Headlines are the expensive part, so they are only built for the rows that survive the LIMIT.
+    private static final String SEARCH_SQL =
+            "SELECT hit.type, hit.id, hit.project_id, hit.score, " +
+            "ts_headline('simple', hit.title, query, :titleOptions) AS title, " +
+            "ts_headline('simple', hit.description, query, :snippetOptions) AS snippet " +
+            "FROM (" +
+            "  SELECT 'PROJECT' AS type, p.id, p.id AS project_id, p.title, p.description, " +
+            "  ts_rank(p.search_vector, query) + word_similarity(:q, p.title) AS score " +
+            "  FROM projects p, websearch_to_tsquery('simple', :q) query " +
+            "  WHERE " + PROJECT_MATCH +
+            "  UNION ALL " +
+            "  SELECT 'TASK' AS type, t.id, t.project_id, t.title, t.description, " +
+            "  ts_rank(t.search_vector, query) + word_similarity(:q, t.title) AS score " +
+            "  FROM tasks t JOIN projects p ON p.id = t.project_id, websearch_to_tsquery('simple', :q) query " +
+            "  WHERE p.user_id = :userId AND (t.search_vector @@ query OR t.title ILIKE :like OR :q <% t.title) " +
+            "  ORDER BY score DESC, id DESC " +
+            "  LIMIT :limit" +
+            ") hit, websearch_to_tsquery('simple', :q) query " +
+            "ORDER BY hit.score DESC, hit.id DESC";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<SearchResultDTO> search(Long userId, String query, int limit) {
+        MapSqlParameterSource params = params(userId, query)
+                .addValue("limit", limit)
+                .addValue("titleOptions", TITLE_OPTIONS)
+                .addValue("snippetOptions", SNIPPET_OPTIONS);
+        return jdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) -> new SearchResultDTO(
+                rs.getString("type"),
+                rs.getLong("id"),
+                rs.getLong("project_id"),
+                Highlighter.toHtml(rs.getString("title")),
+                Highlighter.toHtml(rs.getString("snippet")),
+                rs.getDouble("score")));
+    }
+
+    @Override
+    public Page<Long> searchProjectIds(Long userId, String query, Pageable pageable) {
+        MapSqlParameterSource params = params(userId, query)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+        List<Long> ids = jdbcTemplate.queryForList(PROJECT_IDS_SQL, params, Long.class);
+        Long total = jdbcTemplate.queryForObject(PROJECT_COUNT_SQL, params, Long.class);
+        return new PageImpl<>(ids, pageable, total == null ? 0 : total);
+    }
+
+    private static MapSqlParameterSource params(Long userId, String query) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("q", query)
+                .addValue("like", "%" + escapeLike(query) + "%");
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskaura.search;
+
+import com.taskaura.dto.SearchResultDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface SearchEngine {
+
+    String PROJECT = "PROJECT";
+    String TASK = "TASK";
+
+    List<SearchResultDTO> search(Long userId, String query, int limit);
+
+    Page<Long> searchProjectIds(Long userId, String query, Pageable pageable);
+}
@@ -1,9 +1,14 @@
 package com.taskaura.security;
 
+import com.taskaura.limiter.ConcurrencyLimitFilter;
+import com.taskaura.limiter.ConcurrencyLimiter;
 import com.taskaura.security.jwt.AuthEntryPointJwt;
 import com.taskaura.security.jwt.AuthTokenFilter;
 import com.taskaura.security.services.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,6 +19,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -22,6 +28,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -34,15 +41,25 @@ public class SecurityConfig {
     @Autowired
     AuthEntryPointJwt unauthorizedHandler;
 
+    @Autowired
+    ConcurrencyLimiter concurrencyLimiter;
+
+    @Value("${spring.app.bcryptStrength:10}")
+    int bcryptStrength;
 
     @Bean
     public AuthTokenFilter authenticationJwtTokenFilter() {
         return new AuthTokenFilter();
     }
 
+    // New hashes are stored as {bcrypt}... at the configured cost; hashes from before the prefix (or at a
+    // lower cost) still match and are re-encoded on the next successful sign-in.
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
     }
 
     @Bean
@@ -51,6 +68,7 @@ public class SecurityConfig {
 
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsService);
 
         return authProvider;
     }
@@ -83,10 +101,17 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/signin","/api/auth/signup","/api/auth/signout").permitAll()
                         .requestMatchers("/error").permitAll()
+                        // Probes and Prometheus scrapes (on management.server.port) need no login; any other
+                        // actuator endpoint exposed later does.
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        // Streaming responses finish on an async dispatch; the request was authorized on the way in.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 );
         http.authenticationProvider(authenticationProvider());
         http.addFilterBefore(authenticationJwtTokenFilter(), UsernamePasswordAuthenticationFilter.class);
+        // Not a bean, so it only runs inside the chain; shed requests skip token verification entirely.
+        http.addFilterBefore(new ConcurrencyLimitFilter(concurrencyLimiter), AuthTokenFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,33 @@
+package com.taskaura.security.jwt;
+
+import com.taskaura.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationListener {
+
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    // Set before the flush so the change time is written by the same UPDATE as the change itself.
+    @PreUpdate
+    public void stamp(User user) {
+        user.setTokensValidAfter(Instant.now());
+    }
+
+    @PostUpdate
+    public void revoke(User user) {
+        tokenRevocationRegistry.revokeTokensIssuedBefore(user.getId(), user.getTokensValidAfter());
+    }
+
+    @PostRemove
+    public void remove(User user) {
+        tokenRevocationRegistry.userRemoved(user.getId());
+    }
+}
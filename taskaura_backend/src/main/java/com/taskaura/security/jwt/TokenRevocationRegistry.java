@@ -0,0 +1,55 @@
+package com.taskaura.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.taskaura.repository.UserRepository;
+import com.taskaura.repository.UserTokenStateView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Rejects tokens issued before the last change of their user's account. The change time is stored on the
+ * user (users.tokens_valid_after), so a revocation reaches every node; each node keeps the value in memory
+ * for spring.app.tokenRevocationCheckMs, which bounds how long a revoked token still works elsewhere.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    // userId -> tokens issued before this are revoked; empty once the user no longer exists.
+    private final LoadingCache<Long, Optional<Instant>> validAfter;
+
+    // Lazy: the entity manager factory creates TokenRevocationListener, and with it this registry.
+    public TokenRevocationRegistry(@Lazy UserRepository userRepository,
+                                   @Value("${spring.app.tokenRevocationCacheMaxSize:10000}") long maxSize,
+                                   @Value("${spring.app.tokenRevocationCheckMs:30000}") long checkMs) {
+        this.validAfter = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(checkMs))
+                .build(userId -> userRepository.findTokenStateById(userId)
+                        .map(state -> state.getTokensValidAfter() == null ? Instant.EPOCH : state.getTokensValidAfter()));
+    }
+
+    // The column is written by the same UPDATE (see TokenRevocationListener); this only spares this node the wait.
+    public void revokeTokensIssuedBefore(Long userId, Instant changedAt) {
+        validAfter.put(userId, Optional.of(changedAt));
+    }
+
+    public void userRemoved(Long userId) {
+        validAfter.put(userId, Optional.empty());
+    }
+
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Optional<Instant> changedAt = validAfter.get(userId);
+        if (changedAt.isEmpty()) {
+            return true;
+        }
+        // Token iat has second precision, so tokens issued in the same second as the change stay valid.
+        return issuedAt == null || issuedAt.getTime() / 1000 < changedAt.get().getEpochSecond();
+    }
+}
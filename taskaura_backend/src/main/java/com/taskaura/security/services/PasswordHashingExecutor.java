@@ -0,0 +1,67 @@
+package com.taskaura.security.services;
+
+import com.taskaura.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs sign-in and sign-up, whose cost is almost entirely BCrypt, on a small pool of its own so a burst
+ * of logins cannot occupy the request threads the rest of the API needs. The queue is bounded; once it is
+ * full callers get a ServiceBusyException (503) straight away instead of waiting behind the backlog.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    // Kept private rather than a bean: an Executor bean would replace Spring Boot's applicationTaskExecutor.
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${spring.app.passwordHashThreads:0}") int threads,
+                                   @Value("${spring.app.passwordHashQueueSize:50}") int queueSize) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.meterRegistry = meterRegistry;
+        this.rejected = meterRegistry.counter("taskaura.password.hashing.rejected");
+        Gauge.builder("taskaura.password.hashing.queued", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(String operation, Supplier<T> work) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                meterRegistry.timer("taskaura.password.hashing.wait", "operation", operation)
+                        .record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return work.get();
+                } finally {
+                    meterRegistry.timer("taskaura.password.hashing", "operation", operation)
+                            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException("Too many sign-in requests, try again shortly");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
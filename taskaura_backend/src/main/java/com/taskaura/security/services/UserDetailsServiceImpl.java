@@ -2,25 +2,59 @@ package com.taskaura.security.services;
 
 import com.taskaura.entity.User;
 import com.taskaura.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executor;
 
 @Service
-@RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
+    private static final Logger logger = LoggerFactory.getLogger(UserDetailsServiceImpl.class);
 
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor taskExecutor;
+
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Qualifier("applicationTaskExecutor") Executor taskExecutor) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+    }
 
+    // Only sign-in gets here; authenticated requests build their principal from the JWT claims.
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + email));
 
         return UserDetailsImpl.build(user);
     }
-}
\ No newline at end of file
+
+    // Called by DaoAuthenticationProvider after a successful sign-in whose stored hash is outdated
+    // (no {bcrypt} prefix or a lower cost than spring.app.bcryptStrength). That runs on the password hashing
+    // pool, so the write is handed to the application task executor; if it fails, the next sign-in re-hashes.
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserDetailsImpl principal = (UserDetailsImpl) user;
+        taskExecutor.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> userRepository.updatePasswordByEmail(principal.getEmail(), newPassword));
+            } catch (RuntimeException e) {
+                logger.warn("Storing the re-hashed password of user {} failed", principal.getId(), e);
+            }
+        });
+        return new UserDetailsImpl(principal.getId(), principal.getEmail(), principal.getRealUsername(),
+                newPassword, principal.getAuthorities());
+    }
+}
@@ -0,0 +1,7 @@
+package com.taskaura.service;
+
+import com.taskaura.dto.DashboardDTO;
+
+public interface DashboardService {
+    DashboardDTO getDashboard();
+}
@@ -0,0 +1,26 @@
+package com.taskaura.service;
+
+import com.taskaura.dashboard.DashboardAggregates;
+import com.taskaura.dto.DashboardDTO;
+import com.taskaura.util.AuthUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardServiceImpl implements DashboardService {
+
+    private final DashboardAggregates dashboardAggregates;
+    private final AuthUtil authUtil;
+
+    @Value("${spring.app.dashboardTopProjects:5}")
+    private int topProjects;
+
+    @Override
+    public DashboardDTO getDashboard() {
+        return dashboardAggregates.summarize(authUtil.loggedInUserId(), LocalDate.now(), topProjects);
+    }
+}
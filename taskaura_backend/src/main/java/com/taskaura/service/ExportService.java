@@ -0,0 +1,8 @@
+package com.taskaura.service;
+
+import com.taskaura.dto.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ExportService {
+    StreamingResponseBody exportUserData(ExportFormat format, boolean gzip);
+}
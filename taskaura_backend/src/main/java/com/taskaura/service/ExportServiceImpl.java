@@ -0,0 +1,135 @@
+package com.taskaura.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskaura.dto.ExportFormat;
+import com.taskaura.dto.ExportRowDTO;
+import com.taskaura.repository.ProjectRepository;
+import com.taskaura.util.AuthUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+    private static final String CSV_HEADER = "project_id,project_title,project_description,project_created_at," +
+            "task_id,task_title,task_description,task_due_date,task_completed";
+
+    private final ProjectRepository projectRepository;
+    private final AuthUtil authUtil;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public StreamingResponseBody exportUserData(ExportFormat format, boolean gzip) {
+        // Resolved on the request thread: the body runs later on an async thread without the security context.
+        Long userId = authUtil.loggedInUserId();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        return outputStream -> {
+            OutputStream out = gzip ? new GZIPOutputStream(outputStream, 64 * 1024) : outputStream;
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<ExportRowDTO> rows = projectRepository.streamExportRows(userId)) {
+                    if (format == ExportFormat.CSV) {
+                        writeCsv(rows.iterator(), out);
+                    } else {
+                        writeNdjson(rows.iterator(), out);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (out instanceof GZIPOutputStream gzipOut) {
+                gzipOut.finish();
+            }
+        };
+    }
+
+    // A project line precedes the lines of its tasks; rows arrive ordered by project id.
+    private void writeNdjson(Iterator<ExportRowDTO> rows, OutputStream out) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(out);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Lines are terminated explicitly below; the default separator would prefix each one with a space.
+        json.setRootValueSeparator(null);
+        Long currentProjectId = null;
+        while (rows.hasNext()) {
+            ExportRowDTO row = rows.next();
+            if (!Objects.equals(row.getProjectId(), currentProjectId)) {
+                currentProjectId = row.getProjectId();
+                json.writeStartObject();
+                json.writeStringField("type", "project");
+                json.writeNumberField("id", row.getProjectId());
+                json.writeStringField("title", row.getProjectTitle());
+                json.writeStringField("description", row.getProjectDescription());
+                json.writeStringField("createdAt", Objects.toString(row.getProjectCreatedAt(), null));
+                json.writeEndObject();
+                json.writeRaw('\n');
+            }
+            if (row.getTaskId() != null) {
+                json.writeStartObject();
+                json.writeStringField("type", "task");
+                json.writeNumberField("id", row.getTaskId());
+                json.writeNumberField("projectId", row.getProjectId());
+                json.writeStringField("title", row.getTaskTitle());
+                json.writeStringField("description", row.getTaskDescription());
+                json.writeStringField("dueDate", Objects.toString(row.getTaskDueDate(), null));
+                json.writeBooleanField("completed", Boolean.TRUE.equals(row.getTaskCompleted()));
+                json.writeEndObject();
+                json.writeRaw('\n');
+            }
+        }
+        json.close();
+    }
+
+    // One line per task, repeating the project columns; a project without tasks gets one line with empty task columns.
+    private void writeCsv(Iterator<ExportRowDTO> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        while (rows.hasNext()) {
+            ExportRowDTO row = rows.next();
+            writer.write(csv(row.getProjectId()));
+            writer.write(',');
+            writer.write(csv(row.getProjectTitle()));
+            writer.write(',');
+            writer.write(csv(row.getProjectDescription()));
+            writer.write(',');
+            writer.write(csv(row.getProjectCreatedAt()));
+            writer.write(',');
+            writer.write(csv(row.getTaskId()));
+            writer.write(',');
+            writer.write(csv(row.getTaskTitle()));
+            writer.write(',');
+            writer.write(csv(row.getTaskDescription()));
+            writer.write(',');
+            writer.write(csv(row.getTaskDueDate()));
+            writer.write(',');
+            writer.write(csv(row.getTaskCompleted()));
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskaura.service;
+
+import com.taskaura.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectCounterReconciler {
+    private static final Logger logger = LoggerFactory.getLogger(ProjectCounterReconciler.class);
+
+    private final ProjectRepository projectRepository;
+
+    @Value("${spring.app.counterReconcileOnStartup:false}")
+    boolean reconcileOnStartup;
+
+    // Opt-in, so a restart does not scan every project: enable it for the deploy that adds the counter
+    // columns, to backfill existing projects without waiting for the nightly run.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileAtStartup() {
+        if (reconcileOnStartup) {
+            repair();
+        }
+    }
+
+    @Scheduled(cron = "${spring.app.counterReconcileCron:0 0 3 * * *}")
+    @Transactional
+    public void reconcile() {
+        repair();
+    }
+
+    private void repair() {
+        int repaired = projectRepository.reconcileTaskCounters();
+        if (repaired > 0) {
+            logger.warn("Repaired task counters on {} project(s)", repaired);
+        }
+    }
+}
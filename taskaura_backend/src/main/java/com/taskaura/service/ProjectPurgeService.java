@@ -0,0 +1,82 @@
+package com.taskaura.service;
+
+import com.taskaura.dashboard.DashboardAggregates;
+import com.taskaura.exception.ServiceBusyException;
+import com.taskaura.repository.ProjectRepository;
+import com.taskaura.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.*;
+
+/**
+ * Deletes a project's tasks in chunks, each in its own short transaction, and then the project row,
+ * so no single statement holds locks on a huge number of rows.
+ */
+@Component
+public class ProjectPurgeService {
+    private static final Logger logger = LoggerFactory.getLogger(ProjectPurgeService.class);
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final DashboardAggregates dashboardAggregates;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    // Kept private rather than a bean: an Executor bean would replace Spring Boot's applicationTaskExecutor.
+    private final ThreadPoolExecutor executor;
+
+    public ProjectPurgeService(TaskRepository taskRepository,
+                               ProjectRepository projectRepository,
+                               DashboardAggregates dashboardAggregates,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${spring.app.projectPurgeChunkSize:5000}") int chunkSize,
+                               @Value("${spring.app.projectPurgeThreads:2}") int threads,
+                               @Value("${spring.app.projectPurgeQueueSize:100}") int queueSize) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.dashboardAggregates = dashboardAggregates;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "project-purge");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public void purgeAsync(Long projectId, Long userId) {
+        try {
+            executor.execute(() -> purge(projectId, userId));
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("Too many project deletions in progress, try again later");
+        }
+    }
+
+    private void purge(Long projectId, Long userId) {
+        try {
+            long deleted = 0;
+            int chunk;
+            do {
+                chunk = transactionTemplate.execute(status -> taskRepository.deleteChunkByProjectId(projectId, chunkSize));
+                deleted += chunk;
+            } while (chunk > 0);
+            // Tasks added while purging are removed by the ON DELETE CASCADE of this final statement.
+            transactionTemplate.executeWithoutResult(status -> projectRepository.deleteByIdAndUserId(projectId, userId));
+            dashboardAggregates.invalidate(userId);
+            logger.info("Purged project {} with {} task(s)", projectId, deleted);
+        } catch (RuntimeException e) {
+            logger.error("Purging project {} failed", projectId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,13 +1,21 @@
 package com.taskaura.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskaura.dto.CursorPageDTO;
+import com.taskaura.dto.PageDTO;
 import com.taskaura.dto.ProjectDTO;
-import org.springframework.data.domain.Page;
 
 
 public interface ProjectService {
     ProjectDTO createProject(ProjectDTO projectDTO);
-    Page<ProjectDTO> getUserProjects(int page, int size, String searchTerm);
+    PageDTO<ProjectDTO> getUserProjects(int page, int size, String searchTerm);
+    CursorPageDTO<ProjectDTO> getUserProjectsByCursor(String cursor, int size, String searchTerm);
+    String getUserProjectsETag(int page, int size);
+    String getProjectETag(Long id);
     ProjectDTO getProjectById(Long id);
-    void deleteProject(Long projectId);
-    ProjectDTO updateProject(Long id, ProjectDTO projectDTO);
+    // expectedVersion comes from If-Match; null skips the check.
+    void deleteProject(Long projectId, Long expectedVersion);
+    void deleteProjectAsync(Long projectId, Long expectedVersion);
+    ProjectDTO updateProject(Long id, ProjectDTO projectDTO, Long expectedVersion);
+    ProjectDTO patchProject(Long id, JsonNode patch, Long expectedVersion);
 }
\ No newline at end of file
@@ -1,40 +1,75 @@
 package com.taskaura.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskaura.dashboard.DashboardAggregates;
+import com.taskaura.dto.CursorPageDTO;
+import com.taskaura.dto.PageDTO;
 import com.taskaura.dto.ProjectDTO;
 import com.taskaura.entity.Project;
-import com.taskaura.entity.Task;
 import com.taskaura.entity.User;
 import com.taskaura.exception.APIException;
+import com.taskaura.exception.PreconditionFailedException;
 import com.taskaura.exception.ResourceNotFoundException;
+import com.taskaura.mapper.ProjectMapper;
 import com.taskaura.repository.ProjectRepository;
+import com.taskaura.repository.ProjectVersionView;
+import com.taskaura.search.SearchEngine;
 import com.taskaura.util.AuthUtil;
+import com.taskaura.util.CursorCodec;
+import com.taskaura.util.EntityTags;
+import com.taskaura.util.JsonMergePatch;
+import jakarta.persistence.Cache;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    // Must match idx_projects_user_created_id; id breaks ties between equal timestamps.
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final Sort PAGE_SORT = Sort.by("createdAt").descending();
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("title", "description");
+
     private final ProjectRepository projectRepository;
     private final AuthUtil authUtil;
-    private final ModelMapper modelMapper;
+    private final ProjectMapper projectMapper;
+    private final SearchEngine searchEngine;
+    private final ProjectPurgeService projectPurgeService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final DashboardAggregates dashboardAggregates;
+    private final Cache entityCache;
 
     @Override
     public ProjectDTO createProject(ProjectDTO projectDTO) {
         User currentUser = authUtil.loggedInUser();
-        Project project = modelMapper.map(projectDTO, Project.class);
+        Project project = projectMapper.toEntity(projectDTO);
         project.setUser(currentUser);
         Project savedProject = projectRepository.save(project);
-        return modelMapper.map(savedProject, ProjectDTO.class);
+        dashboardAggregates.projectCreated(currentUser.getId(), savedProject.getId(), savedProject.getTitle());
+        return projectMapper.toDto(savedProject);
     }
 
 //    @Override
@@ -50,71 +85,157 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional
-    public Page<ProjectDTO> getUserProjects(int page, int size, String searchTerm) {
+    public PageDTO<ProjectDTO> getUserProjects(int page, int size, String searchTerm) {
         Long userId = authUtil.loggedInUserId();
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Project> projectPage = projectRepository.findByUserIdAndTitleContainingIgnoreCase(userId, searchTerm, pageable);
-        return projectPage.map(this::mapToDTO);
+        if (searchTerm == null || searchTerm.isBlank()) {
+            Pageable pageable = PageRequest.of(page, size, PAGE_SORT);
+            return PageDTO.of(projectRepository.findByUserId(userId, pageable).map(projectMapper::toDto));
+        }
+
+        // The engine returns ids in relevance order; load the entities and keep that order.
+        Page<Long> idPage = searchEngine.searchProjectIds(userId, searchTerm.trim(), PageRequest.of(page, size));
+        Map<Long, Project> projectsById = projectRepository.findAllById(idPage.getContent()).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        List<ProjectDTO> content = idPage.getContent().stream()
+                .map(projectsById::get)
+                .filter(Objects::nonNull)
+                .map(projectMapper::toDto)
+                .toList();
+        return PageDTO.of(new PageImpl<>(content, idPage.getPageable(), idPage.getTotalElements()));
     }
 
     @Override
-    @Transactional
-    public ProjectDTO getProjectById(Long id) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
-
-        if (!project.getUser().getId().equals(authUtil.loggedInUserId())) {
-            throw new APIException("Unauthorized access to this project");
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProjectDTO> getUserProjectsByCursor(String cursor, int size, String searchTerm) {
+        if (searchTerm != null && !searchTerm.isBlank()) {
+            throw new APIException("Cursor pagination cannot be combined with search");
+        }
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new APIException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        Long userId = authUtil.loggedInUserId();
+        Pageable pageable = PageRequest.of(0, size, KEYSET_SORT);
+
+        Slice<Project> slice;
+        if (cursor == null || cursor.isEmpty()) {
+            slice = projectRepository.findSliceByUserId(userId, pageable);
+        } else {
+            List<String> values = CursorCodec.decode(cursor, 2);
+            try {
+                slice = projectRepository.findSliceByUserIdAfter(userId,
+                        LocalDateTime.parse(values.get(0)), Long.valueOf(values.get(1)), pageable);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new APIException("Invalid cursor");
+            }
         }
 
-        return mapToDTO(project);
+        List<Project> projects = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Project last = projects.get(projects.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+        return new CursorPageDTO<>(projects.stream().map(projectMapper::toDto).toList(), nextCursor, slice.hasNext());
     }
 
-    private ProjectDTO mapToDTO(Project project) {
-        ProjectDTO dto = modelMapper.map(project, ProjectDTO.class);
+    @Override
+    @Transactional(readOnly = true)
+    public String getUserProjectsETag(int page, int size) {
+        Page<ProjectVersionView> versions = projectRepository.findVersionsByUserId(authUtil.loggedInUserId(),
+                PageRequest.of(page, size, PAGE_SORT));
+        // The total is part of the page body, so it is part of the tag.
+        StringBuilder content = new StringBuilder().append(versions.getTotalElements());
+        versions.forEach(view -> content.append(',').append(view.getId()).append('.').append(view.getVersion()));
+        return EntityTags.weak(EntityTags.digest(content.toString()));
+    }
 
-        List<Task> tasks = project.getTasks();
-        if (tasks == null || tasks.isEmpty()) {
-            dto.setTaskCount(0);
-            dto.setCompletedTaskCount(0);
-            dto.setProgressPercentage(0);
-            return dto;
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public String getProjectETag(Long id) {
+        return projectRepository.findVersionByIdAndUserId(id, authUtil.loggedInUserId())
+                .map(EntityTags::of)
+                .orElseThrow(() -> notOwnedOrMissing(id, "Unauthorized access to this project"));
+    }
 
-        int total = tasks.size();
-        int completed = (int) tasks.stream().filter(Task::isCompleted).count();
-        int percentage = (int) Math.round(((double) completed / total) * 100);
-        dto.setTaskCount(total);
-        dto.setCompletedTaskCount(completed);
-        dto.setProgressPercentage(percentage);
+    @Override
+    @Transactional
+    public ProjectDTO getProjectById(Long id) {
+        Project project = findOwnedProject(id, "Unauthorized access to this project");
 
-        return dto;
+        return projectMapper.toDto(project);
     }
 
     @Override
-    public void deleteProject(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
-        if (!project.getUser().getId().equals(authUtil.loggedInUserId())) {
-            throw new APIException("Unauthorized access to delete this project");
+    @Transactional
+    public void deleteProject(Long projectId, Long expectedVersion) {
+        Long userId = authUtil.loggedInUserId();
+        int deleted = expectedVersion == null
+                ? projectRepository.deleteByIdAndUserId(projectId, userId)
+                : projectRepository.deleteByIdAndUserIdAndVersion(projectId, userId, expectedVersion);
+        if (deleted == 0) {
+            if (expectedVersion != null && projectRepository.existsByIdAndUserId(projectId, userId)) {
+                throw new PreconditionFailedException("If-Match does not match the current version");
+            }
+            throw notOwnedOrMissing(projectId, "Unauthorized access to delete this project");
         }
-        projectRepository.delete(project);
+        dashboardAggregates.invalidate(userId);
     }
 
     @Override
-    public ProjectDTO updateProject(Long id, ProjectDTO projectDTO) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+    public void deleteProjectAsync(Long projectId, Long expectedVersion) {
+        Long userId = authUtil.loggedInUserId();
+        long version = projectRepository.findVersionByIdAndUserId(projectId, userId)
+                .orElseThrow(() -> notOwnedOrMissing(projectId, "Unauthorized access to delete this project"));
+        EntityTags.requireMatch(expectedVersion, version);
+        projectPurgeService.purgeAsync(projectId, userId);
+    }
 
-        if (!project.getUser().getId().equals(authUtil.loggedInUserId())) {
-            throw new APIException("Unauthorized access to update this project");
+    @Override
+    @Transactional
+    public ProjectDTO patchProject(Long id, JsonNode patch, Long expectedVersion) {
+        Project project = findOwnedProject(id, "Unauthorized access to update this project");
+        EntityTags.requireMatch(expectedVersion, project.getVersion());
+        projectMapper.updateEntity(JsonMergePatch.apply(objectMapper, projectMapper.toDto(project), patch, PATCHABLE_FIELDS), project);
+        Set<ConstraintViolation<Project>> violations = validator.validate(project);
+        if (!violations.isEmpty()) {
+            throw new APIException(violations.iterator().next().getMessage());
         }
+        // Flushing first lets the response carry the incremented version.
+        projectRepository.flush();
+        dashboardAggregates.projectRenamed(authUtil.loggedInUserId(), project.getId(), project.getTitle());
+        return projectMapper.toDto(project);
+    }
+
+    private Project findOwnedProject(Long projectId, String unauthorizedMessage) {
+        Long userId = authUtil.loggedInUserId();
+        // A cached project is checked without a query (the proxy of user carries its id); otherwise the
+        // ownership-scoped statement loads it, which also puts it into the cache.
+        Optional<Project> project = entityCache.contains(Project.class, projectId)
+                ? projectRepository.findById(projectId).filter(found -> found.getUser().getId().equals(userId))
+                : projectRepository.findByIdAndUserId(projectId, userId);
+        return project.orElseThrow(() -> notOwnedOrMissing(projectId, unauthorizedMessage));
+    }
+
+    // Only runs once the ownership-scoped lookup found nothing, to tell "not found" from "not yours".
+    private RuntimeException notOwnedOrMissing(Long projectId, String unauthorizedMessage) {
+        if (projectRepository.existsById(projectId)) {
+            return new APIException(unauthorizedMessage);
+        }
+        return new ResourceNotFoundException("Project", "id", projectId);
+    }
+
+    @Override
+    @Transactional
+    public ProjectDTO updateProject(Long id, ProjectDTO projectDTO, Long expectedVersion) {
+        Project project = findOwnedProject(id, "Unauthorized access to update this project");
+        EntityTags.requireMatch(expectedVersion, project.getVersion());
 
         project.setTitle(projectDTO.getTitle());
         project.setDescription(projectDTO.getDescription());
 
-        Project updatedProject = projectRepository.save(project);
-        return modelMapper.map(updatedProject, ProjectDTO.class);
+        Project updatedProject = projectRepository.saveAndFlush(project);
+        dashboardAggregates.projectRenamed(authUtil.loggedInUserId(), updatedProject.getId(), updatedProject.getTitle());
+        return projectMapper.toDto(updatedProject);
     }
 }
 
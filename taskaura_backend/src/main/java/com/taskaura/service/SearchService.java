@@ -0,0 +1,9 @@
+package com.taskaura.service;
+
+import com.taskaura.dto.SearchResultDTO;
+
+import java.util.List;
+
+public interface SearchService {
+    List<SearchResultDTO> search(String query, int limit);
+}
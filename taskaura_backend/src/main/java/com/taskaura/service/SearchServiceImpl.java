@@ -0,0 +1,28 @@
+package com.taskaura.service;
+
+import com.taskaura.dto.SearchResultDTO;
+import com.taskaura.search.SearchEngine;
+import com.taskaura.util.AuthUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final SearchEngine searchEngine;
+    private final AuthUtil authUtil;
+
+    @Override
+    public List<SearchResultDTO> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return searchEngine.search(authUtil.loggedInUserId(), query.trim(), boundedLimit);
+    }
+}
@@ -0,0 +1,10 @@
+package com.taskaura.service;
+
+import com.taskaura.dto.ImportResultDTO;
+
+import java.io.InputStream;
+
+public interface TaskImportService {
+    ImportResultDTO importJson(Long projectId, InputStream body);
+    ImportResultDTO importCsv(Long projectId, InputStream body);
+}
@@ -0,0 +1,221 @@
+package com.taskaura.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskaura.dashboard.DashboardAggregates;
+import com.taskaura.dto.ImportErrorDTO;
+import com.taskaura.dto.ImportResultDTO;
+import com.taskaura.dto.TaskDTO;
+import com.taskaura.entity.Project;
+import com.taskaura.entity.Task;
+import com.taskaura.exception.APIException;
+import com.taskaura.exception.ResourceNotFoundException;
+import com.taskaura.mapper.TaskMapper;
+import com.taskaura.repository.ProjectRepository;
+import com.taskaura.util.AuthUtil;
+import com.taskaura.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskImportServiceImpl implements TaskImportService {
+
+    // Multiple of hibernate.jdbc.batch_size; bounds the persistence context during large imports.
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ProjectRepository projectRepository;
+    private final AuthUtil authUtil;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final DashboardAggregates dashboardAggregates;
+
+    @Override
+    @Transactional
+    public ImportResultDTO importJson(Long projectId, InputStream body) {
+        checkOwnership(projectId);
+        BatchWriter writer = new BatchWriter(projectId);
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new APIException("Expected a JSON array of tasks");
+            }
+            int row = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new APIException("Unexpected end of JSON input");
+                }
+                row++;
+                // Binding each element from its own small tree lets one bad element be rejected
+                // without losing the parser's position in the stream.
+                JsonNode element = parser.readValueAsTree();
+                try {
+                    writer.add(row, objectMapper.treeToValue(element, TaskDTO.class));
+                } catch (JsonProcessingException e) {
+                    writer.reject(row, describe(e));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new APIException("Malformed JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.finish();
+    }
+
+    @Override
+    @Transactional
+    public ImportResultDTO importCsv(Long projectId, InputStream body) {
+        checkOwnership(projectId);
+        BatchWriter writer = new BatchWriter(projectId);
+        try (CsvReader csv = new CsvReader(body)) {
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                throw new APIException("CSV input is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("title")) {
+                throw new APIException("CSV header must contain a title column");
+            }
+
+            int row = 0;
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                row++;
+                try {
+                    TaskDTO taskDTO = new TaskDTO();
+                    taskDTO.setTitle(column(record, columns, "title"));
+                    taskDTO.setDescription(column(record, columns, "description"));
+                    String dueDate = column(record, columns, "duedate");
+                    taskDTO.setDueDate(dueDate == null ? null : LocalDate.parse(dueDate.trim()));
+                    taskDTO.setCompleted(parseBoolean(column(record, columns, "completed")));
+                    writer.add(row, taskDTO);
+                } catch (DateTimeParseException e) {
+                    writer.reject(row, "dueDate must be an ISO date (yyyy-MM-dd)");
+                } catch (IllegalArgumentException e) {
+                    writer.reject(row, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.finish();
+    }
+
+    private void checkOwnership(Long projectId) {
+        if (!projectRepository.existsByIdAndUserId(projectId, authUtil.loggedInUserId())) {
+            throw projectRepository.existsById(projectId)
+                    ? new APIException("Unauthorized access to this resource")
+                    : new ResourceNotFoundException("Project", "id", projectId);
+        }
+    }
+
+    private static String describe(JsonProcessingException e) {
+        if (e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()
+                && mapping.getPath().get(0).getFieldName() != null) {
+            return "Invalid value for " + mapping.getPath().get(0).getFieldName();
+        }
+        return "Expected a task object";
+    }
+
+    // Empty cells are treated as absent values.
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    private static boolean parseBoolean(String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new IllegalArgumentException("completed must be true or false");
+        };
+    }
+
+    /**
+     * Persists valid rows and flushes and clears every CHUNK_SIZE rows, so the inserts go out as
+     * JDBC batches and the persistence context never holds more than one chunk.
+     */
+    private class BatchWriter {
+
+        private final Long projectId;
+        private final List<ImportErrorDTO> errors = new ArrayList<>();
+        private int imported;
+        private int completed;
+        private int rejected;
+
+        BatchWriter(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        void add(int row, TaskDTO taskDTO) {
+            Task task = taskMapper.toEntity(taskDTO);
+            Set<ConstraintViolation<Task>> violations = validator.validate(task);
+            if (!violations.isEmpty()) {
+                reject(row, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            task.setProject(entityManager.getReference(Project.class, projectId));
+            entityManager.persist(task);
+            imported++;
+            if (task.isCompleted()) {
+                completed++;
+            }
+            if (imported % CHUNK_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        void reject(int row, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportErrorDTO(row, message));
+            }
+        }
+
+        ImportResultDTO finish() {
+            entityManager.flush();
+            entityManager.clear();
+            if (imported > 0) {
+                projectRepository.adjustTaskCounters(projectId, imported, completed);
+                dashboardAggregates.invalidate(authUtil.loggedInUserId());
+            }
+            return new ImportResultDTO(imported, rejected, errors);
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package com.taskaura.service;
 
+import com.taskaura.dto.BulkTaskRequestDTO;
+import com.taskaura.dto.BulkTaskResultDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskaura.dto.CursorPageDTO;
+import com.taskaura.dto.TaskCompletionDTO;
 import com.taskaura.dto.TaskDTO;
+import com.taskaura.dto.TaskQuery;
 import java.util.List;
 
 public interface TaskService {
     TaskDTO createTask(Long projectId, TaskDTO taskDTO);
     List<TaskDTO> getTasksByProjectId(Long projectId);
-    TaskDTO updateTask(Long taskId, TaskDTO taskDTO);
-    void deleteTask(Long taskId);
+    CursorPageDTO<TaskDTO> getTasks(Long projectId, TaskQuery query);
+    String getTasksETag(Long projectId);
+    // expectedVersion comes from If-Match; null skips the check.
+    TaskDTO updateTask(Long taskId, TaskDTO taskDTO, Long expectedVersion);
+    TaskDTO patchTask(Long taskId, JsonNode patch, Long expectedVersion);
+    TaskCompletionDTO toggleTask(Long taskId);
+    void deleteTask(Long taskId, Long expectedVersion);
+    BulkTaskResultDTO bulkUpdate(Long projectId, BulkTaskRequestDTO request);
 }
\ No newline at end of file
@@ -1,81 +1,336 @@
 package com.taskaura.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskaura.dashboard.DashboardAggregates;
+import com.taskaura.dto.BulkTaskAction;
+import com.taskaura.dto.BulkTaskItemResultDTO;
+import com.taskaura.dto.BulkTaskRequestDTO;
+import com.taskaura.dto.BulkTaskResultDTO;
+import com.taskaura.dto.CursorPageDTO;
+import com.taskaura.dto.TaskCompletionDTO;
 import com.taskaura.dto.TaskDTO;
-import com.taskaura.entity.Project;
+import com.taskaura.dto.TaskFilterDTO;
+import com.taskaura.dto.TaskQuery;
 import com.taskaura.entity.Task;
 import com.taskaura.exception.APIException;
+import com.taskaura.mapper.TaskMapper;
 import com.taskaura.repository.ProjectRepository;
+import com.taskaura.repository.TaskDueStateView;
 import com.taskaura.repository.TaskRepository;
+import com.taskaura.repository.TaskSpecifications;
+import com.taskaura.repository.TaskStateView;
 import com.taskaura.util.AuthUtil;
+import com.taskaura.util.CursorCodec;
+import com.taskaura.util.EntityTags;
+import com.taskaura.util.JsonMergePatch;
+import jakarta.persistence.Cache;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.taskaura.exception.ResourceNotFoundException;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final int DEFAULT_PAGE_LIMIT = 50;
+    private static final int MAX_PAGE_LIMIT = 200;
+    private static final int MAX_BULK_IDS = 1000;
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("title", "description", "dueDate", "completed");
+    // Sorts must match the composite indexes declared on Task.
+    private static final Sort ID_SORT = Sort.by("id");
+    private static final Sort DUE_DATE_SORT = Sort.by("dueDate", "id");
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final AuthUtil authUtil;
-    private final ModelMapper modelMapper;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final DashboardAggregates dashboardAggregates;
+    private final Cache entityCache;
 
     @Override
+    @Transactional
     public TaskDTO createTask(Long projectId, TaskDTO taskDTO) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
-        if (!project.getUser().getId().equals(authUtil.loggedInUserId())) {
-            throw new APIException("Unauthorized access to this resource");
-        }
-        Task task = modelMapper.map(taskDTO, Task.class);
-        task.setProject(project);
+        Long userId = authUtil.loggedInUserId();
+        checkProjectOwnership(projectId, userId);
+        Task task = taskMapper.toEntity(taskDTO);
+        task.setProject(projectRepository.getReferenceById(projectId));
 
         Task savedTask = taskRepository.save(task);
-        return modelMapper.map(savedTask, TaskDTO.class);
+        projectRepository.adjustTaskCounters(projectId, 1, savedTask.isCompleted() ? 1 : 0);
+        dashboardAggregates.taskAdded(userId, projectId, savedTask.isCompleted(), savedTask.getDueDate());
+        return taskMapper.toDto(savedTask);
     }
 
     @Override
     public List<TaskDTO> getTasksByProjectId(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
-
-        if (!project.getUser().getId().equals(authUtil.loggedInUserId())) {
-            throw new APIException("Unauthorized access to this resource");
-        }
+        checkProjectOwnership(projectId, authUtil.loggedInUserId());
         List<Task> tasks = taskRepository.findByProjectId(projectId);
         return tasks.stream()
-                .map(task -> modelMapper.map(task, TaskDTO.class))
+                .map(taskMapper::toDto)
                 .collect(Collectors.toList());
     }
 
+    // Every task write bumps the project version, so it identifies the state of the project's task list.
+    @Override
+    @Transactional(readOnly = true)
+    public String getTasksETag(Long projectId) {
+        return projectRepository.findVersionByIdAndUserId(projectId, authUtil.loggedInUserId())
+                .map(version -> EntityTags.weak(EntityTags.of(version)))
+                .orElseThrow(() -> notOwnedOrMissing(projectId));
+    }
+
     @Override
-    public TaskDTO updateTask(Long taskId, TaskDTO taskDTO) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
-        if (!task.getProject().getUser().getId().equals(authUtil.loggedInUserId())) {
-            throw new APIException("Unauthorized access to this resource");
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskDTO> getTasks(Long projectId, TaskQuery query) {
+        checkProjectOwnership(projectId, authUtil.loggedInUserId());
+
+        int limit = query.getLimit() == null ? DEFAULT_PAGE_LIMIT : query.getLimit();
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new APIException("Limit must be between 1 and " + MAX_PAGE_LIMIT);
+        }
+        boolean byDueDate = "dueDate".equals(query.getSort());
+        if (query.getSort() != null && !byDueDate && !"id".equals(query.getSort())) {
+            throw new APIException("Sort must be one of: id, dueDate");
+        }
+
+        Specification<Task> spec = Specification.where(TaskSpecifications.inProject(projectId))
+                .and(TaskSpecifications.completed(query.getCompleted()))
+                .and(TaskSpecifications.dueFrom(query.getDueFrom()))
+                .and(TaskSpecifications.dueTo(query.getDueTo()))
+                .and(TaskSpecifications.titleStartsWith(query.getTitlePrefix()));
+        if (query.getCursor() != null && !query.getCursor().isEmpty()) {
+            spec = spec.and(afterCursor(query.getCursor(), byDueDate));
         }
+
+        Sort sort = byDueDate ? DUE_DATE_SORT : ID_SORT;
+        // One extra row tells whether another page exists without a count query.
+        List<Task> tasks = taskRepository.findBy(spec, q -> q.sortBy(sort).limit(limit + 1).all());
+        boolean hasNext = tasks.size() > limit;
+        if (hasNext) {
+            tasks = tasks.subList(0, limit);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = tasks.get(tasks.size() - 1);
+            nextCursor = byDueDate ? CursorCodec.encode(last.getDueDate(), last.getId()) : CursorCodec.encode(last.getId());
+        }
+        return new CursorPageDTO<>(tasks.stream().map(taskMapper::toDto).toList(), nextCursor, hasNext);
+    }
+
+    private static Specification<Task> afterCursor(String cursor, boolean byDueDate) {
+        try {
+            if (byDueDate) {
+                List<String> values = CursorCodec.decode(cursor, 2);
+                LocalDate dueDate = values.get(0).isEmpty() ? null : LocalDate.parse(values.get(0));
+                return TaskSpecifications.afterDueDate(dueDate, Long.valueOf(values.get(1)));
+            }
+            return TaskSpecifications.afterId(Long.valueOf(CursorCodec.decode(cursor, 1).get(0)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new APIException("Invalid cursor");
+        }
+    }
+
+    @Override
+    @Transactional
+    public TaskDTO updateTask(Long taskId, TaskDTO taskDTO, Long expectedVersion) {
+        Task task = findOwnedTask(taskId);
+        EntityTags.requireMatch(expectedVersion, task.getVersion());
+        long previousVersion = task.getVersion();
+        boolean wasCompleted = task.isCompleted();
+        LocalDate previousDueDate = task.getDueDate();
         task.setTitle(taskDTO.getTitle());
         task.setDescription(taskDTO.getDescription());
         task.setDueDate(taskDTO.getDueDate());
         task.setCompleted(taskDTO.isCompleted());
-        Task updatedTask = taskRepository.save(task);
-        return modelMapper.map(updatedTask, TaskDTO.class);
+        recordChange(task, previousVersion, wasCompleted, previousDueDate);
+        return taskMapper.toDto(task);
     }
 
     @Override
-    public void deleteTask(Long taskId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+    @Transactional
+    public TaskDTO patchTask(Long taskId, JsonNode patch, Long expectedVersion) {
+        Task task = findOwnedTask(taskId);
+        EntityTags.requireMatch(expectedVersion, task.getVersion());
+        long previousVersion = task.getVersion();
+        boolean wasCompleted = task.isCompleted();
+        LocalDate previousDueDate = task.getDueDate();
+        taskMapper.updateEntity(JsonMergePatch.apply(objectMapper, taskMapper.toDto(task), patch, PATCHABLE_FIELDS), task);
+        Set<ConstraintViolation<Task>> violations = validator.validate(task);
+        if (!violations.isEmpty()) {
+            throw new APIException(violations.iterator().next().getMessage());
+        }
+        // Dirty checking plus @DynamicUpdate: unchanged fields are not written, and an empty patch writes nothing.
+        recordChange(task, previousVersion, wasCompleted, previousDueDate);
+        return taskMapper.toDto(task);
+    }
+
+    // Flushing increments the version only if a column changed; a changed task also changes its project's
+    // task list, so the project counters are adjusted (and the project version bumped) even for a zero delta.
+    private void recordChange(Task task, long previousVersion, boolean wasCompleted, LocalDate previousDueDate) {
+        taskRepository.flush();
+        if (task.getVersion() != previousVersion) {
+            int completedDelta = wasCompleted == task.isCompleted() ? 0 : task.isCompleted() ? 1 : -1;
+            projectRepository.adjustTaskCounters(task.getProject().getId(), 0, completedDelta);
+            dashboardAggregates.taskChanged(authUtil.loggedInUserId(), task.getProject().getId(),
+                    wasCompleted, previousDueDate, task.isCompleted(), task.getDueDate());
+        }
+    }
 
-        if (!task.getProject().getUser().getId().equals(authUtil.loggedInUserId())) {
-            throw new APIException("Unauthorized access to this resource");
+    @Override
+    @Transactional
+    public TaskCompletionDTO toggleTask(Long taskId) {
+        Long userId = authUtil.loggedInUserId();
+        if (taskRepository.toggleCompleted(taskId, userId) == 0) {
+            throw taskRepository.existsById(taskId)
+                    ? new APIException("Unauthorized access to this resource")
+                    : new ResourceNotFoundException("Task", "id", taskId);
         }
+        // The row stays locked by the toggle, so the state read back is the one this transaction wrote.
+        TaskDueStateView state = taskRepository.findDueStateById(taskId);
+        projectRepository.adjustTaskCounters(state.getProjectId(), 0, state.getCompleted() ? 1 : -1);
+        dashboardAggregates.taskChanged(userId, state.getProjectId(), !state.getCompleted(), state.getDueDate(),
+                state.getCompleted(), state.getDueDate());
+        return new TaskCompletionDTO(taskId, state.getCompleted());
+    }
 
+    @Override
+    @Transactional
+    public void deleteTask(Long taskId, Long expectedVersion) {
+        Task task = findOwnedTask(taskId);
+        EntityTags.requireMatch(expectedVersion, task.getVersion());
         taskRepository.delete(task);
+        projectRepository.adjustTaskCounters(task.getProject().getId(), -1, task.isCompleted() ? -1 : 0);
+        dashboardAggregates.taskRemoved(authUtil.loggedInUserId(), task.getProject().getId(), task.isCompleted(),
+                task.getDueDate());
+    }
+
+    @Override
+    @Transactional
+    public BulkTaskResultDTO bulkUpdate(Long projectId, BulkTaskRequestDTO request) {
+        Long userId = authUtil.loggedInUserId();
+        checkProjectOwnership(projectId, userId);
+
+        List<Long> ids = request.getIds();
+        if ((ids == null) == (request.getFilter() == null)) {
+            throw new APIException("Provide either ids or a filter");
+        }
+        if (ids != null && (ids.isEmpty() || ids.size() > MAX_BULK_IDS)) {
+            throw new APIException("Between 1 and " + MAX_BULK_IDS + " ids can be changed at once");
+        }
+
+        Long targetProjectId = request.getTargetProjectId();
+        if (request.getAction() == BulkTaskAction.MOVE) {
+            if (targetProjectId == null || targetProjectId.equals(projectId)) {
+                throw new APIException("MOVE needs a targetProjectId different from the source project");
+            }
+            checkProjectOwnership(targetProjectId, userId);
+        }
+
+        Specification<Task> scope = Specification.where(TaskSpecifications.inProject(projectId));
+        if (ids != null) {
+            scope = scope.and(TaskSpecifications.idIn(ids));
+        } else {
+            TaskFilterDTO filter = request.getFilter();
+            scope = scope.and(TaskSpecifications.completed(filter.getCompleted()))
+                    .and(TaskSpecifications.dueFrom(filter.getDueFrom()))
+                    .and(TaskSpecifications.dueTo(filter.getDueTo()))
+                    .and(TaskSpecifications.titleStartsWith(filter.getTitlePrefix()));
+        }
+
+        // Read before writing, only to report per-id outcomes.
+        Map<Long, Boolean> before = ids == null ? null : taskRepository.findStatesByProjectIdAndIdIn(projectId, ids)
+                .stream()
+                .collect(Collectors.toMap(TaskStateView::getId, TaskStateView::getCompleted));
+
+        // Completed and open rows are changed by separate statements so the counter deltas are exact.
+        int affected;
+        switch (request.getAction()) {
+            case COMPLETE -> {
+                affected = taskRepository.updateCompleted(scope, true);
+                projectRepository.adjustTaskCounters(projectId, 0, affected);
+            }
+            case REOPEN -> {
+                affected = taskRepository.updateCompleted(scope, false);
+                projectRepository.adjustTaskCounters(projectId, 0, -affected);
+            }
+            case MOVE -> {
+                int done = taskRepository.moveToProject(scope.and(TaskSpecifications.completed(true)), targetProjectId);
+                int open = taskRepository.moveToProject(scope.and(TaskSpecifications.completed(false)), targetProjectId);
+                affected = done + open;
+                projectRepository.adjustTaskCounters(projectId, -affected, -done);
+                projectRepository.adjustTaskCounters(targetProjectId, affected, done);
+            }
+            case DELETE -> {
+                int done = taskRepository.deleteMatching(scope.and(TaskSpecifications.completed(true)));
+                int open = taskRepository.deleteMatching(scope.and(TaskSpecifications.completed(false)));
+                affected = done + open;
+                projectRepository.adjustTaskCounters(projectId, -affected, -done);
+            }
+            default -> throw new APIException("Unsupported action: " + request.getAction());
+        }
+        if (affected > 0) {
+            dashboardAggregates.invalidate(userId);
+        }
+
+        List<BulkTaskItemResultDTO> results = ids == null ? null : ids.stream()
+                .distinct()
+                .map(id -> new BulkTaskItemResultDTO(id, itemStatus(request.getAction(), before.get(id))))
+                .toList();
+        return new BulkTaskResultDTO(request.getAction(), affected, results);
+    }
+
+    // The ownership check is a single indexed lookup; the existence query only runs on the failure path
+    // to keep "not found" and "not yours" apart.
+    private void checkProjectOwnership(Long projectId, Long userId) {
+        if (!projectRepository.existsByIdAndUserId(projectId, userId)) {
+            throw notOwnedOrMissing(projectId);
+        }
+    }
+
+    private RuntimeException notOwnedOrMissing(Long projectId) {
+        return projectRepository.existsById(projectId)
+                ? new APIException("Unauthorized access to this resource")
+                : new ResourceNotFoundException("Project", "id", projectId);
+    }
+
+    private Task findOwnedTask(Long taskId) {
+        Long userId = authUtil.loggedInUserId();
+        // A cached task is checked through its project, itself usually cached; otherwise the ownership-scoped
+        // join answers in one statement.
+        Optional<Task> task = entityCache.contains(Task.class, taskId)
+                ? taskRepository.findById(taskId).filter(found -> found.getProject().getUser().getId().equals(userId))
+                : taskRepository.findByIdAndProjectUserId(taskId, userId);
+        return task.orElseThrow(() -> taskRepository.existsById(taskId)
+                        ? new APIException("Unauthorized access to this resource")
+                        : new ResourceNotFoundException("Task", "id", taskId));
+    }
+
+    private static String itemStatus(BulkTaskAction action, Boolean completedBefore) {
+        if (completedBefore == null) {
+            return "NOT_FOUND";
+        }
+        return switch (action) {
+            case COMPLETE -> completedBefore ? "UNCHANGED" : "UPDATED";
+            case REOPEN -> completedBefore ? "UPDATED" : "UNCHANGED";
+            case MOVE -> "MOVED";
+            case DELETE -> "DELETED";
+        };
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.taskaura.util;
 
 import com.taskaura.entity.User;
 import com.taskaura.repository.UserRepository;
+import com.taskaura.security.services.UserDetailsImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,17 +16,17 @@ public class AuthUtil {
     UserRepository userRepository;
 
     public Long loggedInUserId(){
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + authentication.getName()));
-
-        return user.getId();
+        return loggedInPrincipal().getId();
     }
     public User loggedInUser(){
+        // A reference is enough to associate new rows with the user and does not hit the users table.
+        return userRepository.getReferenceById(loggedInUserId());
+    }
+    public UserDetailsImpl loggedInPrincipal(){
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        User user = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + authentication.getName()));
-        return user;
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl userDetails)) {
+            throw new UsernameNotFoundException("No authenticated user found in the security context");
+        }
+        return userDetails;
     }
 }
\ No newline at end of file
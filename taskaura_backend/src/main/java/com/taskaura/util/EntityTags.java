@@ -0,0 +1,66 @@
+package com.taskaura.util;
+
+import com.taskaura.exception.PreconditionFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * ETags derived from @Version columns; a tag only has to be unique per URL.
+ * <p>
+ * A single project or task gets a strong tag, its version: clients send it back in If-Match, which only
+ * accepts strong tags, and such a body is too small to be worth compressing.
+ * <p>
+ * Lists get weak tags (the task list uses its project's version, the project page a digest of the
+ * (id, version) pairs it contains). Tomcat will not gzip a response with a strong tag, because the
+ * compressed bytes differ from the ones the tag names, and lists are what is worth compressing.
+ * If-None-Match uses the weak comparison, so they still answer 304.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String digest(String content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(hash, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // If-None-Match uses the weak comparison, so a weak tag still yields 304s.
+    public static String weak(String tag) {
+        return "W/" + tag;
+    }
+
+    // Only a single strong tag is understood; "*" and a missing header mean "unconditional".
+    public static Long parseIfMatch(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            throw new PreconditionFailedException("If-Match must be a single strong ETag");
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match the current version");
+        }
+    }
+
+    public static void requireMatch(Long expectedVersion, long currentVersion) {
+        if (expectedVersion != null && expectedVersion != currentVersion) {
+            throw new PreconditionFailedException("If-Match does not match the current version");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskaura.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.taskaura.exception.APIException;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RFC 7396 JSON Merge Patch for the flat DTOs: a member replaces the field, a null member clears it
+ * and absent members are left alone. Only the given fields may appear in a patch.
+ */
+public final class JsonMergePatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private JsonMergePatch() {
+    }
+
+    public static <T> T apply(ObjectMapper objectMapper, T current, JsonNode patch, Set<String> patchableFields) {
+        if (patch == null || !patch.isObject()) {
+            throw new APIException("A merge patch must be a JSON object");
+        }
+        ObjectNode target = objectMapper.valueToTree(current);
+        Iterator<Map.Entry<String, JsonNode>> members = patch.fields();
+        while (members.hasNext()) {
+            Map.Entry<String, JsonNode> member = members.next();
+            if (!patchableFields.contains(member.getKey())) {
+                throw new APIException("Field cannot be patched: " + member.getKey());
+            }
+            target.set(member.getKey(), member.getValue());
+        }
+        try {
+            // Clearing a primitive such as completed is an error rather than a silent reset to its default.
+            return objectMapper.readerFor(current.getClass())
+                    .with(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+                    .readValue(target);
+        } catch (JsonMappingException e) {
+            String field = e.getPath().isEmpty() ? null : e.getPath().get(0).getFieldName();
+            throw new APIException(field == null ? "Invalid merge patch" : "Invalid value for " + field);
+        } catch (IOException e) {
+            throw new APIException("Invalid merge patch");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+-- Runs on every startup after Hibernate has updated the schema, so every statement must be idempotent.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_projects_search_vector ON projects USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_projects_title_trgm ON projects USING gin (title gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_tasks_title_trgm ON tasks USING gin (title gin_trgm_ops);
+
+-- Title-prefix filter of the task list (lower(title) LIKE 'abc%').
+CREATE INDEX IF NOT EXISTS idx_tasks_project_title_prefix ON tasks (project_id, lower(title) text_pattern_ops);
+
+-- Ids moved from IDENTITY to pooled sequences (allocationSize 50). Moves each sequence past ids that
+-- were handed out by the identity columns; it never moves a sequence backwards.
+SELECT setval('users_seq', m.max_id) FROM (SELECT MAX(id) AS max_id FROM users) m
+    WHERE m.max_id > (SELECT last_value FROM users_seq);
+SELECT setval('projects_seq', m.max_id) FROM (SELECT MAX(id) AS max_id FROM projects) m
+    WHERE m.max_id > (SELECT last_value FROM projects_seq);
+SELECT setval('tasks_seq', m.max_id) FROM (SELECT MAX(id) AS max_id FROM tasks) m
+    WHERE m.max_id > (SELECT last_value FROM tasks_seq);
+
+-- Deleting a project removes its tasks in the database (Task.project is @OnDelete CASCADE). Hibernate only
+-- creates the cascading key on new schemas, so replace a non-cascading one left by older versions.
+-- The body is single-quoted because the script runner does not understand dollar quoting.
+DO '
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN
+        SELECT con.conname FROM pg_constraint con
+        JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = ANY (con.conkey)
+        WHERE con.conrelid = ''tasks''::regclass AND con.contype = ''f''
+          AND att.attname = ''project_id'' AND con.confdeltype <> ''c''
+    LOOP
+        EXECUTE format(''ALTER TABLE tasks DROP CONSTRAINT %I'', fk.conname);
+    END LOOP;
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_constraint con
+        JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = ANY (con.conkey)
+        WHERE con.conrelid = ''tasks''::regclass AND con.contype = ''f''
+          AND att.attname = ''project_id'' AND con.confdeltype = ''c''
+    ) THEN
+        ALTER TABLE tasks ADD CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id) ON DELETE CASCADE;
+    END IF;
+END';
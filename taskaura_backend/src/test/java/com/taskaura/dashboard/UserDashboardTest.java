@@ -0,0 +1,154 @@
+package com.taskaura.dashboard;
+
+import com.taskaura.dto.DashboardDTO;
+import com.taskaura.dto.DashboardProjectDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserDashboardTest {
+
+    private static final LocalDate WEDNESDAY = LocalDate.of(2026, 10, 14);
+    private static final LocalDate SUNDAY = LocalDate.of(2026, 10, 18);
+    private static final LocalDate NEXT_MONDAY = LocalDate.of(2026, 10, 19);
+
+    @Test
+    public void summarize_ShouldCountDueToday_AsDueThisWeekNotOverdue() {
+        UserDashboard dashboard = new UserDashboard();
+        dashboard.addOpenDueDate(WEDNESDAY.minusDays(1), 2);
+        dashboard.addOpenDueDate(WEDNESDAY, 3);
+
+        DashboardDTO summary = dashboard.summarize(WEDNESDAY, 5);
+
+        assertEquals(2, summary.getOverdueTasks());
+        assertEquals(3, summary.getDueThisWeek());
+    }
+
+    @Test
+    public void summarize_ShouldEndWeekOnSunday() {
+        UserDashboard dashboard = new UserDashboard();
+        dashboard.addOpenDueDate(SUNDAY, 1);
+        dashboard.addOpenDueDate(NEXT_MONDAY, 4);
+
+        DashboardDTO summary = dashboard.summarize(WEDNESDAY, 5);
+
+        assertEquals(0, summary.getOverdueTasks());
+        assertEquals(1, summary.getDueThisWeek());
+    }
+
+    @Test
+    public void summarize_ShouldCoverOnlyToday_WhenTodayIsSunday() {
+        UserDashboard dashboard = new UserDashboard();
+        dashboard.addOpenDueDate(SUNDAY.minusDays(1), 1);
+        dashboard.addOpenDueDate(SUNDAY, 2);
+        dashboard.addOpenDueDate(NEXT_MONDAY, 4);
+
+        DashboardDTO summary = dashboard.summarize(SUNDAY, 5);
+
+        assertEquals(1, summary.getOverdueTasks());
+        assertEquals(2, summary.getDueThisWeek());
+    }
+
+    @Test
+    public void summarize_ShouldCoverWholeWeek_WhenTodayIsMonday() {
+        UserDashboard dashboard = new UserDashboard();
+        dashboard.addOpenDueDate(SUNDAY, 1);
+        dashboard.addOpenDueDate(NEXT_MONDAY, 2);
+        dashboard.addOpenDueDate(NEXT_MONDAY.plusDays(6), 3);
+        dashboard.addOpenDueDate(NEXT_MONDAY.plusDays(7), 4);
+
+        DashboardDTO summary = dashboard.summarize(NEXT_MONDAY, 5);
+
+        assertEquals(1, summary.getOverdueTasks());
+        assertEquals(5, summary.getDueThisWeek());
+    }
+
+    @Test
+    public void summarize_ShouldMoveTasksToOverdue_AsDaysPass() {
+        UserDashboard dashboard = new UserDashboard();
+        dashboard.addOpenDueDate(WEDNESDAY, 1);
+
+        assertEquals(0, dashboard.summarize(WEDNESDAY, 5).getOverdueTasks());
+        assertEquals(1, dashboard.summarize(WEDNESDAY.plusDays(1), 5).getOverdueTasks());
+        assertEquals(0, dashboard.summarize(WEDNESDAY.plusDays(1), 5).getDueThisWeek());
+    }
+
+    @Test
+    public void applyTask_ShouldCountOpenTaskByDueDate_AndRemoveIt() {
+        UserDashboard dashboard = new UserDashboard();
+        dashboard.putProject(1L, "Project", 0, 0);
+
+        dashboard.applyTask(1L, false, WEDNESDAY, 1);
+        DashboardDTO added = dashboard.summarize(WEDNESDAY, 5);
+        assertEquals(1, added.getTotalTasks());
+        assertEquals(0, added.getCompletedTasks());
+        assertEquals(1, added.getDueThisWeek());
+
+        dashboard.applyTask(1L, false, WEDNESDAY, -1);
+        DashboardDTO removed = dashboard.summarize(WEDNESDAY, 5);
+        assertEquals(0, removed.getTotalTasks());
+        assertEquals(0, removed.getDueThisWeek());
+    }
+
+    @Test
+    public void applyTask_ShouldDropDueDateEntry_WhenCountReachesZero() {
+        UserDashboard dashboard = new UserDashboard();
+        dashboard.putProject(1L, "Project", 0, 0);
+        UserDashboard expected = new UserDashboard();
+        expected.putProject(1L, "Project", 0, 0);
+
+        dashboard.applyTask(1L, false, WEDNESDAY, 1);
+        dashboard.applyTask(1L, false, WEDNESDAY, -1);
+
+        assertTrue(dashboard.sameAs(expected));
+    }
+
+    @Test
+    public void applyTask_ShouldNotCountDueDate_WhenTaskIsCompletedOrHasNone() {
+        UserDashboard dashboard = new UserDashboard();
+        dashboard.putProject(1L, "Project", 0, 0);
+
+        dashboard.applyTask(1L, true, WEDNESDAY.minusDays(1), 1);
+        dashboard.applyTask(1L, false, null, 1);
+        DashboardDTO summary = dashboard.summarize(WEDNESDAY, 5);
+
+        assertEquals(2, summary.getTotalTasks());
+        assertEquals(1, summary.getCompletedTasks());
+        assertEquals(0, summary.getOverdueTasks());
+        assertEquals(0, summary.getDueThisWeek());
+    }
+
+    @Test
+    public void applyTask_ShouldMoveCounts_WhenTaskIsCompleted() {
+        UserDashboard dashboard = new UserDashboard();
+        dashboard.putProject(1L, "Project", 1, 0);
+        dashboard.addOpenDueDate(WEDNESDAY.minusDays(1), 1);
+
+        dashboard.applyTask(1L, false, WEDNESDAY.minusDays(1), -1);
+        dashboard.applyTask(1L, true, WEDNESDAY.minusDays(1), 1);
+        DashboardDTO summary = dashboard.summarize(WEDNESDAY, 5);
+
+        assertEquals(1, summary.getTotalTasks());
+        assertEquals(1, summary.getCompletedTasks());
+        assertEquals(0, summary.getOverdueTasks());
+        assertTrue(summary.getTopProjects().isEmpty());
+    }
+
+    @Test
+    public void summarize_ShouldRankProjectsByRemainingTasks_ThenById() {
+        UserDashboard dashboard = new UserDashboard();
+        dashboard.putProject(3L, "Three", 4, 2);
+        dashboard.putProject(1L, "One", 5, 0);
+        dashboard.putProject(2L, "Two", 3, 1);
+        dashboard.putProject(4L, "Done", 2, 2);
+
+        List<DashboardProjectDTO> top = dashboard.summarize(WEDNESDAY, 2).getTopProjects();
+
+        assertEquals(List.of(new DashboardProjectDTO(1L, "One", 5, 0, 5),
+                new DashboardProjectDTO(2L, "Two", 3, 1, 2)), top);
+        assertEquals(3, dashboard.summarize(WEDNESDAY, 5).getTopProjects().size());
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskaura.exception;
+
+import com.taskaura.entity.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyGlobalExceptionHandlerTest {
+
+    private final MyGlobalExceptionHandler handler = new MyGlobalExceptionHandler();
+
+    @Test
+    public void myPreconditionFailedException_ShouldAnswer412() {
+        var response = handler.myPreconditionFailedException(
+                new PreconditionFailedException("If-Match does not match the current version"));
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertEquals("If-Match does not match the current version", response.getBody().getMessage());
+    }
+
+    @Test
+    public void myOptimisticLockingFailureException_ShouldAnswer409() {
+        var response = handler.myOptimisticLockingFailureException(
+                new ObjectOptimisticLockingFailureException(Task.class, 10L));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertFalse(response.getBody().isStatus());
+    }
+
+    @Test
+    public void myServiceBusyException_ShouldAnswer503WithRetryAfter() {
+        var response = handler.myServiceBusyException(new ServiceBusyException("Too many sign-in requests"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
@@ -0,0 +1,93 @@
+package com.taskaura.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AimdLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(600);
+
+    @Test
+    public void constructor_ShouldClampInitialLimitToBounds() {
+        assertEquals(2, new AimdLimit(1, 2, 20, 0.9, 500).getLimit());
+        assertEquals(20, new AimdLimit(50, 2, 20, 0.9, 500).getLimit());
+    }
+
+    @Test
+    public void tryAcquire_ShouldRejectOnceLimitIsInFlight_AndAdmitAfterRelease() {
+        AimdLimit limit = new AimdLimit(3, 2, 20, 0.9, 500);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(3, limit.getInFlight());
+        assertEquals(1.0, limit.utilization());
+
+        limit.release(FAST, false);
+        assertTrue(limit.tryAcquire());
+    }
+
+    @Test
+    public void release_ShouldIncreaseByOne_WhenFastAndAtLeastHalfUsed() {
+        AimdLimit limit = new AimdLimit(4, 2, 20, 0.9, 500);
+        limit.tryAcquire();
+        limit.tryAcquire();
+
+        limit.release(FAST, false);
+
+        assertEquals(5, limit.getLimit());
+        assertEquals(1, limit.getInFlight());
+    }
+
+    @Test
+    public void release_ShouldKeepLimit_WhenFastButLessThanHalfUsed() {
+        AimdLimit limit = new AimdLimit(10, 2, 20, 0.9, 500);
+        limit.tryAcquire();
+
+        limit.release(FAST, false);
+
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    public void release_ShouldNotIncreaseAboveMaximum() {
+        AimdLimit limit = new AimdLimit(5, 2, 5, 0.9, 500);
+        for (int i = 0; i < 5; i++) {
+            limit.tryAcquire();
+        }
+
+        limit.release(FAST, false);
+
+        assertEquals(5, limit.getLimit());
+    }
+
+    @Test
+    public void release_ShouldBackOffByRatio_WhenSlowOrFailed() {
+        AimdLimit limit = new AimdLimit(20, 2, 200, 0.9, 500);
+
+        limit.tryAcquire();
+        limit.release(SLOW, false);
+        assertEquals(18, limit.getLimit());
+
+        limit.tryAcquire();
+        limit.release(FAST, true);
+        assertEquals(16, limit.getLimit());
+    }
+
+    @Test
+    public void release_ShouldNotBackOffBelowMinimum() {
+        AimdLimit limit = new AimdLimit(3, 2, 20, 0.5, 500);
+        for (int i = 0; i < 5; i++) {
+            limit.tryAcquire();
+            limit.release(SLOW, false);
+        }
+
+        assertEquals(2, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+}
@@ -0,0 +1,77 @@
+package com.taskaura.limiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimiter limiter;
+
+    // Initial limits: auth 10, read 40, write 20, bulk 4; bulk yields once reads use 75% of their limit.
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new ConcurrencyLimiter(meterRegistry, true, 2, 200, 0.9, 0.75, 2000, 500, 1000, 10000);
+    }
+
+    @Test
+    public void tryAcquire_ShouldAdmitBulk_WhileReadsAreBelowYieldUtilization() {
+        acquire(RouteClass.READ, 29);
+
+        assertTrue(limiter.tryAcquire(RouteClass.BULK));
+    }
+
+    @Test
+    public void tryAcquire_ShouldRejectBulk_WhenReadsReachYieldUtilization() {
+        acquire(RouteClass.READ, 30);
+
+        assertFalse(limiter.tryAcquire(RouteClass.BULK));
+        assertEquals(1.0, meterRegistry.counter("taskaura.limiter.rejected", "class", "bulk").count());
+        assertEquals(0.0, gauge("taskaura.limiter.inflight", "bulk"));
+
+        limiter.release(RouteClass.READ, 1_000_000, false);
+        assertTrue(limiter.tryAcquire(RouteClass.BULK));
+    }
+
+    @Test
+    public void tryAcquire_ShouldNotLimitReads_ByBulkWork() {
+        acquire(RouteClass.BULK, 4);
+
+        assertFalse(limiter.tryAcquire(RouteClass.BULK));
+        assertTrue(limiter.tryAcquire(RouteClass.READ));
+        assertTrue(limiter.tryAcquire(RouteClass.WRITE));
+    }
+
+    @Test
+    public void tryAcquire_ShouldRejectAndCount_WhenClassLimitIsReached() {
+        acquire(RouteClass.WRITE, 20);
+
+        assertFalse(limiter.tryAcquire(RouteClass.WRITE));
+        assertEquals(1.0, meterRegistry.counter("taskaura.limiter.rejected", "class", "write").count());
+        assertEquals(20.0, gauge("taskaura.limiter.limit", "write"));
+    }
+
+    @Test
+    public void release_ShouldAdjustOnlyItsOwnClass() {
+        acquire(RouteClass.READ, 1);
+
+        limiter.release(RouteClass.READ, 2_000_000_000L, false);
+
+        assertEquals(36.0, gauge("taskaura.limiter.limit", "read"));
+        assertEquals(20.0, gauge("taskaura.limiter.limit", "write"));
+    }
+
+    private void acquire(RouteClass routeClass, int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(limiter.tryAcquire(routeClass), routeClass + " #" + i);
+        }
+    }
+
+    private double gauge(String name, String routeClass) {
+        return meterRegistry.get(name).tag("class", routeClass).gauge().value();
+    }
+}
@@ -0,0 +1,73 @@
+package com.taskaura.security.jwt;
+
+import com.taskaura.security.services.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtUtilsTest {
+
+    private static final String SECRET = "dGFza2F1cmEtdGVzdC1zZWNyZXQtdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaHMyNTY=";
+
+    private JwtUtils jwtUtils;
+
+    @BeforeEach
+    public void setup() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60_000);
+        ReflectionTestUtils.setField(jwtUtils, "jwtCookie", "TaskNovaCookie");
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheSize", 100L);
+        jwtUtils.init();
+    }
+
+    @Test
+    public void getPrincipalFromClaims_ShouldRebuildPrincipal_FromIssuedToken() {
+        UserDetailsImpl principal = new UserDetailsImpl(7L, "jane@example.com", "Jane", "hash",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        Claims claims = jwtUtils.parseAndValidate(jwtUtils.generateTokenFromPrincipal(principal));
+        UserDetailsImpl rebuilt = jwtUtils.getPrincipalFromClaims(claims);
+
+        assertEquals(7L, rebuilt.getId());
+        assertEquals("jane@example.com", rebuilt.getUsername());
+        assertEquals("Jane", rebuilt.getRealUsername());
+        assertNull(rebuilt.getPassword());
+        assertEquals(List.of("ROLE_USER"), rebuilt.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    public void getPrincipalFromClaims_ShouldReturnNull_WhenClaimsVersionIsMissing() {
+        String legacyToken = Jwts.builder()
+                .subject("jane@example.com")
+                .claim(JwtUtils.CLAIM_USER_ID, 7L)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .compact();
+
+        Claims claims = jwtUtils.parseAndValidate(legacyToken);
+
+        assertNotNull(claims);
+        assertNull(jwtUtils.getPrincipalFromClaims(claims));
+    }
+
+    @Test
+    public void parseAndValidate_ShouldReturnNull_WhenSignatureDoesNotMatch() {
+        String token = jwtUtils.generateTokenFromPrincipal(new UserDetailsImpl(7L, "jane@example.com", "Jane", null, List.of()));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertNull(jwtUtils.parseAndValidate(tampered));
+    }
+}
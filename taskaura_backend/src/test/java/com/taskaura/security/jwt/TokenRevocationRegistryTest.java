@@ -0,0 +1,88 @@
+package com.taskaura.security.jwt;
+
+import com.taskaura.repository.UserRepository;
+import com.taskaura.repository.UserTokenStateView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationRegistryTest {
+
+    private static final long CHANGED_AT = 1_700_000_000_000L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        registry = new TokenRevocationRegistry(userRepository, 100, 60_000);
+    }
+
+    @Test
+    public void isRevoked_ShouldRevokeOnlyTokensIssuedBeforeTheStoredChangeSecond() {
+        when(userRepository.findTokenStateById(1L)).thenReturn(Optional.of(state(1L, Instant.ofEpochMilli(CHANGED_AT + 500))));
+
+        assertTrue(registry.isRevoked(1L, new Date(CHANGED_AT - 1000)));
+        assertFalse(registry.isRevoked(1L, new Date(CHANGED_AT)));
+        assertFalse(registry.isRevoked(1L, new Date(CHANGED_AT + 1000)));
+        assertTrue(registry.isRevoked(1L, null));
+        verify(userRepository, times(1)).findTokenStateById(1L);
+    }
+
+    @Test
+    public void isRevoked_ShouldReturnFalse_WhenAccountNeverChanged() {
+        when(userRepository.findTokenStateById(1L)).thenReturn(Optional.of(state(1L, null)));
+
+        assertFalse(registry.isRevoked(1L, new Date(CHANGED_AT)));
+    }
+
+    @Test
+    public void isRevoked_ShouldReturnTrue_WhenUserNoLongerExists() {
+        when(userRepository.findTokenStateById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(registry.isRevoked(1L, new Date(CHANGED_AT)));
+    }
+
+    @Test
+    public void revokeTokensIssuedBefore_ShouldApplyOnThisNodeWithoutReadingTheUser() {
+        registry.revokeTokensIssuedBefore(1L, Instant.ofEpochMilli(CHANGED_AT));
+
+        assertTrue(registry.isRevoked(1L, new Date(CHANGED_AT - 1000)));
+        assertFalse(registry.isRevoked(1L, new Date(CHANGED_AT)));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    public void userRemoved_ShouldRevokeEveryToken() {
+        registry.userRemoved(1L);
+
+        assertTrue(registry.isRevoked(1L, new Date(CHANGED_AT)));
+        verifyNoInteractions(userRepository);
+    }
+
+    private static UserTokenStateView state(Long id, Instant tokensValidAfter) {
+        return new UserTokenStateView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Instant getTokensValidAfter() {
+                return tokensValidAfter;
+            }
+        };
+    }
+}
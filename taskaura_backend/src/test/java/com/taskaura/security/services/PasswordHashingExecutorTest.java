@@ -0,0 +1,60 @@
+package com.taskaura.security.services;
+
+import com.taskaura.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(meterRegistry, 1, 1);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void submit_ShouldReturnResultAndRecordTimings() throws Exception {
+        assertEquals("hash", executor.submit("signup", () -> "hash").get(5, TimeUnit.SECONDS));
+
+        assertEquals(1, meterRegistry.get("taskaura.password.hashing").tag("operation", "signup").timer().count());
+        assertEquals(1, meterRegistry.get("taskaura.password.hashing.wait").tag("operation", "signup").timer().count());
+    }
+
+    @Test
+    public void submit_ShouldThrowServiceBusyException_WhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = executor.submit("signin", () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = executor.submit("signin", () -> "second");
+
+        assertThrows(ServiceBusyException.class, () -> executor.submit("signin", () -> "third"));
+        assertEquals(1.0, meterRegistry.get("taskaura.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.taskaura.security.services;
+
+import com.taskaura.entity.User;
+import com.taskaura.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserDetailsServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    // Work handed to the application task executor; run explicitly so the tests see what happens where.
+    private final List<Runnable> queued = new ArrayList<>();
+
+    private DaoAuthenticationProvider authProvider;
+
+    @BeforeEach
+    public void setup() {
+        UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(userRepository, transactionManager, queued::add);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(5)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        authProvider = new DaoAuthenticationProvider();
+        authProvider.setUserDetailsService(userDetailsService);
+        authProvider.setPasswordEncoder(encoder);
+        authProvider.setUserDetailsPasswordService(userDetailsService);
+    }
+
+    @Test
+    public void authenticate_ShouldStoreReencodedLegacyHashOnTaskExecutor_WhenPasswordMatches() {
+        storedUser(new BCryptPasswordEncoder(4).encode("secret"));
+
+        authProvider.authenticate(new UsernamePasswordAuthenticationToken("test@example.com", "secret"));
+
+        verify(userRepository, never()).updatePasswordByEmail(any(), any());
+        assertEquals(1, queued.size());
+        queued.forEach(Runnable::run);
+        verify(userRepository).updatePasswordByEmail(eq("test@example.com"), startsWith("{bcrypt}$2a$05$"));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void authenticate_ShouldKeepHash_WhenItIsCurrent() {
+        PasswordEncoder current = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(5)));
+        storedUser(current.encode("secret"));
+
+        authProvider.authenticate(new UsernamePasswordAuthenticationToken("test@example.com", "secret"));
+
+        assertTrue(queued.isEmpty());
+    }
+
+    @Test
+    public void authenticate_ShouldNotReencode_WhenPasswordIsWrong() {
+        storedUser(new BCryptPasswordEncoder(4).encode("secret"));
+
+        assertThrows(BadCredentialsException.class, () -> authProvider.authenticate(
+                new UsernamePasswordAuthenticationToken("test@example.com", "wrong")));
+        assertTrue(queued.isEmpty());
+    }
+
+    private void storedUser(String passwordHash) {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("test@example.com");
+        user.setUsername("test");
+        user.setPassword(passwordHash);
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+    }
+}
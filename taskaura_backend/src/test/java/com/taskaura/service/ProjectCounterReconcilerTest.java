@@ -0,0 +1,37 @@
+package com.taskaura.service;
+
+import com.taskaura.repository.ProjectRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectCounterReconcilerTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private ProjectCounterReconciler reconciler;
+
+    @Test
+    public void reconcileAtStartup_ShouldDoNothing_UnlessEnabled() {
+        reconciler.reconcileAtStartup();
+
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    public void reconcileAtStartup_ShouldReconcile_WhenEnabled() {
+        reconciler.reconcileOnStartup = true;
+        when(projectRepository.reconcileTaskCounters()).thenReturn(2);
+
+        reconciler.reconcileAtStartup();
+
+        verify(projectRepository).reconcileTaskCounters();
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskaura.service;
+
+import com.taskaura.dashboard.DashboardAggregates;
+import com.taskaura.exception.ServiceBusyException;
+import com.taskaura.repository.ProjectRepository;
+import com.taskaura.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectPurgeServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private DashboardAggregates dashboardAggregates;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProjectPurgeService purgeService;
+
+    @BeforeEach
+    public void setup() {
+        purgeService = new ProjectPurgeService(taskRepository, projectRepository, dashboardAggregates, transactionManager, 2, 1, 1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        purgeService.shutdown();
+    }
+
+    @Test
+    public void purgeAsync_ShouldDeleteTasksInChunks_ThenTheProject() {
+        when(taskRepository.deleteChunkByProjectId(100L, 2)).thenReturn(2, 1, 0);
+
+        purgeService.purgeAsync(100L, 1L);
+
+        verify(projectRepository, timeout(5000)).deleteByIdAndUserId(100L, 1L);
+        InOrder order = inOrder(taskRepository, projectRepository);
+        order.verify(taskRepository, times(3)).deleteChunkByProjectId(100L, 2);
+        order.verify(projectRepository).deleteByIdAndUserId(100L, 1L);
+        verify(transactionManager, times(4)).commit(any());
+        verify(dashboardAggregates).invalidate(1L);
+    }
+
+    @Test
+    public void purgeAsync_ShouldKeepTheProject_WhenDeletingTasksFails() {
+        when(taskRepository.deleteChunkByProjectId(100L, 2)).thenThrow(new IllegalStateException("connection lost"));
+        when(taskRepository.deleteChunkByProjectId(101L, 2)).thenReturn(0);
+
+        purgeService.purgeAsync(100L, 1L);
+        purgeService.purgeAsync(101L, 1L);
+
+        verify(projectRepository, timeout(5000)).deleteByIdAndUserId(101L, 1L);
+        verify(projectRepository, never()).deleteByIdAndUserId(100L, 1L);
+        verify(dashboardAggregates, times(1)).invalidate(1L);
+    }
+
+    @Test
+    public void purgeAsync_ShouldRejectPurges_WhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskRepository.deleteChunkByProjectId(anyLong(), eq(2))).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return 0;
+        });
+
+        purgeService.purgeAsync(100L, 1L);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        purgeService.purgeAsync(101L, 1L);
+
+        assertThrows(ServiceBusyException.class, () -> purgeService.purgeAsync(102L, 1L));
+        release.countDown();
+        verify(projectRepository, timeout(5000)).deleteByIdAndUserId(101L, 1L);
+        verify(projectRepository, never()).deleteByIdAndUserId(102L, 1L);
+    }
+}
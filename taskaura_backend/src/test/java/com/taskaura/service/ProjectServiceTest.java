@@ -1,17 +1,25 @@
 package com.taskaura.service;
 
+import com.taskaura.dashboard.DashboardAggregates;
 import com.taskaura.dto.ProjectDTO;
 import com.taskaura.entity.Project;
 import com.taskaura.entity.User;
+import com.taskaura.exception.APIException;
+import com.taskaura.exception.PreconditionFailedException;
+import com.taskaura.exception.ResourceNotFoundException;
+import com.taskaura.mapper.ProjectMapper;
+import com.taskaura.mapper.ProjectMapperImpl;
 import com.taskaura.repository.ProjectRepository;
 import com.taskaura.util.AuthUtil;
+import com.taskaura.util.CursorCodec;
+import jakarta.persistence.Cache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 import java.util.Optional;
 
@@ -30,7 +38,16 @@ public class ProjectServiceTest {
     private AuthUtil authUtil;
 
     @Mock
-    private ModelMapper modelMapper;
+    private ProjectPurgeService projectPurgeService;
+
+    @Mock
+    private DashboardAggregates dashboardAggregates;
+
+    @Mock
+    private Cache entityCache;
+
+    @Spy
+    private ProjectMapper projectMapper = new ProjectMapperImpl();
 
     @InjectMocks
     private ProjectServiceImpl projectService;
@@ -60,36 +77,132 @@ public class ProjectServiceTest {
     @Test
     public void createProject_ShouldReturnSavedProjectDTO() {
         when(authUtil.loggedInUser()).thenReturn(user);
-        when(modelMapper.map(projectDTO, Project.class)).thenReturn(project);
         when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(modelMapper.map(project, ProjectDTO.class)).thenReturn(projectDTO);
 
         ProjectDTO savedProject = projectService.createProject(projectDTO);
 
         assertNotNull(savedProject);
         assertEquals("Test Project", savedProject.getTitle());
         verify(projectRepository).save(any(Project.class));
+        verify(dashboardAggregates).projectCreated(1L, 100L, "Test Project");
     }
 
     @Test
     public void getProjectById_ShouldReturnProjectDTO_WhenAuthorized() {
         when(authUtil.loggedInUserId()).thenReturn(1L);
-        when(projectRepository.findById(100L)).thenReturn(Optional.of(project));
-        when(modelMapper.map(project, ProjectDTO.class)).thenReturn(projectDTO);
+        project.setTaskCount(4);
+        project.setCompletedTaskCount(1);
+        when(projectRepository.findByIdAndUserId(100L, 1L)).thenReturn(Optional.of(project));
 
         ProjectDTO foundProject = projectService.getProjectById(100L);
 
         assertNotNull(foundProject);
         assertEquals(100L, foundProject.getId());
+        assertEquals(4, foundProject.getTaskCount());
+        assertEquals(1, foundProject.getCompletedTaskCount());
+        assertEquals(25, foundProject.getProgressPercentage());
+    }
+
+    @Test
+    public void getUserProjectsByCursor_ShouldThrowAPIException_WhenCursorValuesAreNotParseable() {
+        String tampered = CursorCodec.encode("yesterday", "latest");
+
+        assertThrows(APIException.class, () -> projectService.getUserProjectsByCursor(tampered, 10, null));
+        verify(projectRepository, never()).findSliceByUserIdAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    public void getProjectById_ShouldCheckOwnerOfCachedProject_WithoutScopedQuery() {
+        when(authUtil.loggedInUserId()).thenReturn(2L);
+        when(entityCache.contains(Project.class, 100L)).thenReturn(true);
+        when(projectRepository.findById(100L)).thenReturn(Optional.of(project));
+        when(projectRepository.existsById(100L)).thenReturn(true);
+
+        assertThrows(APIException.class, () -> projectService.getProjectById(100L));
+        verify(projectRepository, never()).findByIdAndUserId(any(), any());
     }
 
     @Test
     public void deleteProject_ShouldCallDelete_WhenAuthorized() {
         when(authUtil.loggedInUserId()).thenReturn(1L);
-        when(projectRepository.findById(100L)).thenReturn(Optional.of(project));
+        when(projectRepository.deleteByIdAndUserId(100L, 1L)).thenReturn(1);
+
+        projectService.deleteProject(100L, null);
+
+        verify(projectRepository).deleteByIdAndUserId(100L, 1L);
+        verify(dashboardAggregates).invalidate(1L);
+    }
+
+    @Test
+    public void deleteProject_ShouldThrowResourceNotFoundException_WhenProjectDoesNotExist() {
+        when(authUtil.loggedInUserId()).thenReturn(1L);
+        when(projectRepository.deleteByIdAndUserId(100L, 1L)).thenReturn(0);
+        when(projectRepository.existsById(100L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> projectService.deleteProject(100L, null));
+    }
+
+    @Test
+    public void deleteProject_ShouldThrowPreconditionFailedException_WhenVersionChanged() {
+        when(authUtil.loggedInUserId()).thenReturn(1L);
+        when(projectRepository.deleteByIdAndUserIdAndVersion(100L, 1L, 2L)).thenReturn(0);
+        when(projectRepository.existsByIdAndUserId(100L, 1L)).thenReturn(true);
+
+        assertThrows(PreconditionFailedException.class, () -> projectService.deleteProject(100L, 2L));
+        verify(projectRepository, never()).deleteByIdAndUserId(any(), any());
+    }
+
+    @Test
+    public void updateProject_ShouldThrowPreconditionFailedException_WhenIfMatchIsStale() {
+        when(authUtil.loggedInUserId()).thenReturn(1L);
+        project.setVersion(3L);
+        when(projectRepository.findByIdAndUserId(100L, 1L)).thenReturn(Optional.of(project));
+
+        assertThrows(PreconditionFailedException.class, () -> projectService.updateProject(100L, projectDTO, 2L));
+        verify(projectRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void updateProject_ShouldSave_WhenIfMatchIsCurrent() {
+        when(authUtil.loggedInUserId()).thenReturn(1L);
+        project.setVersion(3L);
+        when(projectRepository.findByIdAndUserId(100L, 1L)).thenReturn(Optional.of(project));
+        when(projectRepository.saveAndFlush(project)).thenReturn(project);
+        projectDTO.setTitle("Renamed");
+
+        ProjectDTO updated = projectService.updateProject(100L, projectDTO, 3L);
+
+        assertEquals("Renamed", updated.getTitle());
+        assertEquals(3L, updated.getVersion());
+    }
+
+    @Test
+    public void deleteProjectAsync_ShouldQueuePurge_WhenAuthorized() {
+        when(authUtil.loggedInUserId()).thenReturn(1L);
+        when(projectRepository.findVersionByIdAndUserId(100L, 1L)).thenReturn(Optional.of(3L));
+
+        projectService.deleteProjectAsync(100L, null);
+
+        verify(projectPurgeService).purgeAsync(100L, 1L);
+        verify(projectRepository, never()).deleteByIdAndUserId(any(), any());
+    }
 
-        projectService.deleteProject(100L);
+    @Test
+    public void deleteProjectAsync_ShouldThrowPreconditionFailedException_WhenIfMatchIsStale() {
+        when(authUtil.loggedInUserId()).thenReturn(1L);
+        when(projectRepository.findVersionByIdAndUserId(100L, 1L)).thenReturn(Optional.of(3L));
+
+        assertThrows(PreconditionFailedException.class, () -> projectService.deleteProjectAsync(100L, 2L));
+        verify(projectPurgeService, never()).purgeAsync(any(), any());
+    }
+
+    @Test
+    public void deleteProjectAsync_ShouldThrowAPIException_WhenProjectBelongsToAnotherUser() {
+        when(authUtil.loggedInUserId()).thenReturn(2L);
+        when(projectRepository.findVersionByIdAndUserId(100L, 2L)).thenReturn(Optional.empty());
+        when(projectRepository.existsById(100L)).thenReturn(true);
 
-        verify(projectRepository).delete(project);
+        assertThrows(APIException.class, () -> projectService.deleteProjectAsync(100L, null));
+        verify(projectPurgeService, never()).purgeAsync(any(), any());
     }
 }
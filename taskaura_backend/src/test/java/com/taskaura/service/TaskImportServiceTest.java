@@ -0,0 +1,170 @@
+package com.taskaura.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskaura.dashboard.DashboardAggregates;
+import com.taskaura.dto.ImportErrorDTO;
+import com.taskaura.dto.ImportResultDTO;
+import com.taskaura.entity.Task;
+import com.taskaura.exception.APIException;
+import com.taskaura.mapper.TaskMapper;
+import com.taskaura.mapper.TaskMapperImpl;
+import com.taskaura.repository.ProjectRepository;
+import com.taskaura.util.AuthUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskImportServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private AuthUtil authUtil;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private DashboardAggregates dashboardAggregates;
+
+    @Spy
+    private TaskMapper taskMapper = new TaskMapperImpl();
+
+    @Spy
+    private ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private TaskImportServiceImpl taskImportService;
+
+    @Test
+    public void importJson_ShouldPersistValidElements_AndReportSkippedOnes() {
+        ownedProject();
+
+        ImportResultDTO result = taskImportService.importJson(100L, body("""
+                [{"title": "Write spec", "completed": true},
+                 {"title": ""},
+                 {"title": "Review", "dueDate": "not-a-date"},
+                 "just text",
+                 {"title": "Ship", "dueDate": "2026-11-01"}]"""));
+
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getRejected());
+        assertEquals(List.of(new ImportErrorDTO(2, "Task title is required"),
+                new ImportErrorDTO(3, "Invalid value for dueDate"),
+                new ImportErrorDTO(4, "Expected a task object")), result.getErrors());
+        List<Task> persisted = persistedTasks(2);
+        assertEquals("Write spec", persisted.get(0).getTitle());
+        assertTrue(persisted.get(0).isCompleted());
+        assertEquals(LocalDate.of(2026, 11, 1), persisted.get(1).getDueDate());
+        verify(projectRepository).adjustTaskCounters(100L, 2, 1);
+        verify(dashboardAggregates).invalidate(1L);
+    }
+
+    @Test
+    public void importJson_ShouldThrowAPIException_WhenBodyIsNotAnArray() {
+        ownedProject();
+
+        assertThrows(APIException.class, () -> taskImportService.importJson(100L, body("{\"title\": \"Task\"}")));
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    public void importJson_ShouldThrowAPIException_WhenProjectBelongsToAnotherUser() {
+        when(authUtil.loggedInUserId()).thenReturn(2L);
+        when(projectRepository.existsByIdAndUserId(100L, 2L)).thenReturn(false);
+        when(projectRepository.existsById(100L)).thenReturn(true);
+
+        assertThrows(APIException.class, () -> taskImportService.importJson(100L, body("[{\"title\": \"Task\"}]")));
+        verify(entityManager, never()).persist(any());
+        verify(projectRepository, never()).adjustTaskCounters(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void importCsv_ShouldMapColumnsByHeader_AndSkipInvalidRows() {
+        ownedProject();
+
+        ImportResultDTO result = taskImportService.importCsv(100L, body("""
+                Completed,Title,dueDate
+                true,"Write, review",2026-11-01
+                maybe,Estimate,
+                false,,
+
+                false,Deploy,01/11/2026
+                ,Retro,
+                """));
+
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getRejected());
+        assertEquals(List.of(new ImportErrorDTO(2, "completed must be true or false"),
+                new ImportErrorDTO(3, "Task title is required"),
+                new ImportErrorDTO(4, "dueDate must be an ISO date (yyyy-MM-dd)")), result.getErrors());
+        List<Task> persisted = persistedTasks(2);
+        assertEquals("Write, review", persisted.get(0).getTitle());
+        assertEquals(LocalDate.of(2026, 11, 1), persisted.get(0).getDueDate());
+        assertEquals("Retro", persisted.get(1).getTitle());
+        assertFalse(persisted.get(1).isCompleted());
+        verify(projectRepository).adjustTaskCounters(100L, 2, 1);
+    }
+
+    @Test
+    public void importCsv_ShouldThrowAPIException_WhenHeaderHasNoTitleColumn() {
+        ownedProject();
+
+        assertThrows(APIException.class, () -> taskImportService.importCsv(100L, body("name,dueDate\nTask,\n")));
+    }
+
+    @Test
+    public void importCsv_ShouldListOnlyTheFirstErrors_AndCountAllRejectedRows() {
+        ownedProject();
+        StringBuilder csv = new StringBuilder("title,completed\n");
+        for (int i = 0; i < 150; i++) {
+            csv.append("Task,maybe\n");
+        }
+
+        ImportResultDTO result = taskImportService.importCsv(100L, body(csv.toString()));
+
+        assertEquals(0, result.getImported());
+        assertEquals(150, result.getRejected());
+        assertEquals(100, result.getErrors().size());
+        verify(projectRepository, never()).adjustTaskCounters(any(), anyInt(), anyInt());
+    }
+
+    private void ownedProject() {
+        when(authUtil.loggedInUserId()).thenReturn(1L);
+        when(projectRepository.existsByIdAndUserId(100L, 1L)).thenReturn(true);
+    }
+
+    private List<Task> persistedTasks(int count) {
+        ArgumentCaptor<Task> tasks = ArgumentCaptor.forClass(Task.class);
+        verify(entityManager, times(count)).persist(tasks.capture());
+        return tasks.getAllValues();
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
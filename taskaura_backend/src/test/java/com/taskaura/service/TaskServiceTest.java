@@ -0,0 +1,235 @@
+package com.taskaura.service;
+
+import com.taskaura.dashboard.DashboardAggregates;
+import com.taskaura.dto.BulkTaskAction;
+import com.taskaura.dto.BulkTaskItemResultDTO;
+import com.taskaura.dto.BulkTaskRequestDTO;
+import com.taskaura.dto.BulkTaskResultDTO;
+import com.taskaura.dto.TaskDTO;
+import com.taskaura.dto.TaskFilterDTO;
+import com.taskaura.entity.Project;
+import com.taskaura.entity.Task;
+import com.taskaura.exception.APIException;
+import com.taskaura.exception.PreconditionFailedException;
+import com.taskaura.mapper.TaskMapper;
+import com.taskaura.mapper.TaskMapperImpl;
+import com.taskaura.repository.ProjectRepository;
+import com.taskaura.repository.TaskRepository;
+import com.taskaura.repository.TaskStateView;
+import com.taskaura.util.AuthUtil;
+import jakarta.persistence.Cache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private AuthUtil authUtil;
+
+    @Mock
+    private DashboardAggregates dashboardAggregates;
+
+    @Mock
+    private Cache entityCache;
+
+    @Spy
+    private TaskMapper taskMapper = new TaskMapperImpl();
+
+    @InjectMocks
+    private TaskServiceImpl taskService;
+
+    @Test
+    public void bulkUpdate_ShouldReportEachIdOnce_AndCountOnlyChangedRows_WhenCompletingByIds() {
+        owns(100L);
+        when(taskRepository.findStatesByProjectIdAndIdIn(100L, List.of(1L, 2L, 3L, 1L)))
+                .thenReturn(List.of(state(1L, false), state(2L, true)));
+        when(taskRepository.updateCompleted(any(), eq(true))).thenReturn(1);
+
+        BulkTaskResultDTO result = taskService.bulkUpdate(100L,
+                new BulkTaskRequestDTO(BulkTaskAction.COMPLETE, List.of(1L, 2L, 3L, 1L), null, null));
+
+        assertEquals(1, result.getAffected());
+        assertEquals(List.of(new BulkTaskItemResultDTO(1L, "UPDATED"),
+                new BulkTaskItemResultDTO(2L, "UNCHANGED"),
+                new BulkTaskItemResultDTO(3L, "NOT_FOUND")), result.getResults());
+        verify(projectRepository).adjustTaskCounters(100L, 0, 1);
+        verify(dashboardAggregates).invalidate(1L);
+    }
+
+    @Test
+    public void bulkUpdate_ShouldMoveCompletedAndOpenRowsSeparately_WhenMovingByFilter() {
+        owns(100L, 200L);
+        when(taskRepository.moveToProject(any(), eq(200L))).thenReturn(2, 3);
+
+        BulkTaskResultDTO result = taskService.bulkUpdate(100L, new BulkTaskRequestDTO(BulkTaskAction.MOVE, null,
+                new TaskFilterDTO(null, null, null, "Draft"), 200L));
+
+        assertEquals(5, result.getAffected());
+        assertNull(result.getResults());
+        verify(taskRepository, times(2)).moveToProject(any(), eq(200L));
+        verify(projectRepository).adjustTaskCounters(100L, -5, -2);
+        verify(projectRepository).adjustTaskCounters(200L, 5, 2);
+        verify(taskRepository, never()).findStatesByProjectIdAndIdIn(any(), any());
+    }
+
+    @Test
+    public void bulkUpdate_ShouldDeleteEveryTask_WhenFilterIsEmpty() {
+        owns(100L);
+        when(taskRepository.deleteMatching(any())).thenReturn(1, 4);
+
+        BulkTaskResultDTO result = taskService.bulkUpdate(100L,
+                new BulkTaskRequestDTO(BulkTaskAction.DELETE, null, new TaskFilterDTO(), null));
+
+        assertEquals(5, result.getAffected());
+        verify(projectRepository).adjustTaskCounters(100L, -5, -1);
+    }
+
+    @Test
+    public void bulkUpdate_ShouldAcceptAtMost1000Ids() {
+        owns(100L);
+        List<Long> ids = LongStream.rangeClosed(1, 1000).boxed().toList();
+        when(taskRepository.findStatesByProjectIdAndIdIn(100L, ids)).thenReturn(List.of());
+
+        BulkTaskResultDTO result = taskService.bulkUpdate(100L,
+                new BulkTaskRequestDTO(BulkTaskAction.REOPEN, ids, null, null));
+        assertEquals(1000, result.getResults().size());
+        verify(dashboardAggregates, never()).invalidate(any());
+
+        List<Long> tooMany = LongStream.rangeClosed(1, 1001).boxed().toList();
+        assertThrows(APIException.class, () -> taskService.bulkUpdate(100L,
+                new BulkTaskRequestDTO(BulkTaskAction.REOPEN, tooMany, null, null)));
+        verify(taskRepository, times(1)).updateCompleted(any(), anyBoolean());
+    }
+
+    @Test
+    public void bulkUpdate_ShouldThrowAPIException_WhenNotExactlyOneOfIdsAndFilterIsGiven() {
+        owns(100L);
+
+        assertThrows(APIException.class, () -> taskService.bulkUpdate(100L,
+                new BulkTaskRequestDTO(BulkTaskAction.COMPLETE, List.of(1L), new TaskFilterDTO(), null)));
+        assertThrows(APIException.class, () -> taskService.bulkUpdate(100L,
+                new BulkTaskRequestDTO(BulkTaskAction.COMPLETE, null, null, null)));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    public void bulkUpdate_ShouldThrowAPIException_WhenMoveTargetBelongsToAnotherUser() {
+        owns(100L);
+        notOwned(200L);
+
+        assertThrows(APIException.class, () -> taskService.bulkUpdate(100L,
+                new BulkTaskRequestDTO(BulkTaskAction.MOVE, List.of(1L), null, 200L)));
+        verifyNoInteractions(taskRepository);
+        verify(projectRepository, never()).adjustTaskCounters(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void bulkUpdate_ShouldThrowAPIException_WhenMoveTargetIsTheSourceProject() {
+        owns(100L);
+
+        assertThrows(APIException.class, () -> taskService.bulkUpdate(100L,
+                new BulkTaskRequestDTO(BulkTaskAction.MOVE, List.of(1L), null, 100L)));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    public void updateTask_ShouldThrowPreconditionFailedException_WhenIfMatchIsStale() {
+        Task task = ownedTask(5L);
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTask(10L, taskDTO(task, true), 4L));
+        assertFalse(task.isCompleted());
+        verify(taskRepository, never()).flush();
+        verify(projectRepository, never()).adjustTaskCounters(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void updateTask_ShouldAdjustProjectCounters_WhenFlushChangedTheTask() {
+        Task task = ownedTask(5L);
+        doAnswer(invocation -> {
+            task.setVersion(6L);
+            return null;
+        }).when(taskRepository).flush();
+
+        TaskDTO updated = taskService.updateTask(10L, taskDTO(task, true), 5L);
+
+        assertTrue(updated.isCompleted());
+        assertEquals(6L, updated.getVersion());
+        verify(projectRepository).adjustTaskCounters(100L, 0, 1);
+        verify(dashboardAggregates).taskChanged(1L, 100L, false, null, true, null);
+    }
+
+    @Test
+    public void deleteTask_ShouldThrowPreconditionFailedException_WhenIfMatchIsStale() {
+        ownedTask(5L);
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.deleteTask(10L, 4L));
+        verify(taskRepository, never()).delete(any(Task.class));
+        verify(projectRepository, never()).adjustTaskCounters(any(), anyInt(), anyInt());
+    }
+
+    private void owns(Long... projectIds) {
+        when(authUtil.loggedInUserId()).thenReturn(1L);
+        for (Long projectId : projectIds) {
+            when(projectRepository.existsByIdAndUserId(projectId, 1L)).thenReturn(true);
+        }
+    }
+
+    private void notOwned(Long projectId) {
+        when(projectRepository.existsByIdAndUserId(projectId, 1L)).thenReturn(false);
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+    }
+
+    private Task ownedTask(long version) {
+        Project project = new Project();
+        project.setId(100L);
+        Task task = new Task();
+        task.setId(10L);
+        task.setTitle("Task");
+        task.setVersion(version);
+        task.setProject(project);
+        when(authUtil.loggedInUserId()).thenReturn(1L);
+        when(taskRepository.findByIdAndProjectUserId(10L, 1L)).thenReturn(Optional.of(task));
+        return task;
+    }
+
+    private static TaskDTO taskDTO(Task task, boolean completed) {
+        return new TaskDTO(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(), completed,
+                task.getProject().getId(), task.getVersion());
+    }
+
+    private static TaskStateView state(Long id, boolean completed) {
+        return new TaskStateView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Boolean getCompleted() {
+                return completed;
+            }
+        };
+    }
+}
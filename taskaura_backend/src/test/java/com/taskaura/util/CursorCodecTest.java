@@ -0,0 +1,64 @@
+package com.taskaura.util;
+
+import com.taskaura.exception.APIException;
+import com.taskaura.exception.MyGlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CursorCodecTest {
+
+    @Test
+    public void decode_ShouldReturnEncodedValues_WhenRoundTripped() {
+        String cursor = CursorCodec.encode(LocalDateTime.of(2026, 3, 1, 9, 30, 15), 42L);
+
+        List<String> values = CursorCodec.decode(cursor, 2);
+
+        assertEquals(List.of("2026-03-01T09:30:15", "42"), values);
+        assertEquals(LocalDateTime.of(2026, 3, 1, 9, 30, 15), LocalDateTime.parse(values.get(0)));
+    }
+
+    @Test
+    public void decode_ShouldReturnEmptyValue_WhenEncodedValueWasNull() {
+        String cursor = CursorCodec.encode(null, 7L);
+
+        assertEquals(List.of("", "7"), CursorCodec.decode(cursor, 2));
+    }
+
+    @Test
+    public void encode_ShouldProduceUrlSafeTokenWithoutPadding() {
+        String cursor = CursorCodec.encode(LocalDateTime.of(2026, 3, 1, 9, 30), 1L);
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), cursor);
+    }
+
+    @Test
+    public void decode_ShouldThrowAPIException_WhenCursorIsNotBase64() {
+        APIException e = assertThrows(APIException.class, () -> CursorCodec.decode("not a cursor!", 1));
+
+        assertEquals("Invalid cursor", e.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, new MyGlobalExceptionHandler().myAPIException(e).getStatusCode());
+    }
+
+    @Test
+    public void decode_ShouldThrowAPIException_WhenValueCountDoesNotMatch() {
+        assertThrows(APIException.class, () -> CursorCodec.decode(CursorCodec.encode(42L), 2));
+        assertThrows(APIException.class, () -> CursorCodec.decode(CursorCodec.encode("a", "b", "c"), 2));
+    }
+
+    @Test
+    public void decode_ShouldThrowAPIException_WhenCursorWasTamperedWith() {
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2026-03-01T09:30:15|42|1".getBytes(StandardCharsets.UTF_8));
+        String truncated = CursorCodec.encode(LocalDateTime.of(2026, 3, 1, 9, 30), 42L).substring(0, 5);
+
+        assertThrows(APIException.class, () -> CursorCodec.decode(tampered, 2));
+        assertThrows(APIException.class, () -> CursorCodec.decode(truncated, 2));
+    }
+}
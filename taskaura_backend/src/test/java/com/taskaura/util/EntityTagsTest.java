@@ -0,0 +1,43 @@
+package com.taskaura.util;
+
+import com.taskaura.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityTagsTest {
+
+    @Test
+    public void parseIfMatch_ShouldReturnVersion_WhenHeaderIsTheTagOfThatVersion() {
+        assertEquals(7L, EntityTags.parseIfMatch(EntityTags.of(7)));
+        assertEquals(7L, EntityTags.parseIfMatch(" \"7\" "));
+    }
+
+    @Test
+    public void parseIfMatch_ShouldReturnNull_WhenHeaderIsMissingOrWildcard() {
+        assertNull(EntityTags.parseIfMatch(null));
+        assertNull(EntityTags.parseIfMatch(""));
+        assertNull(EntityTags.parseIfMatch("*"));
+    }
+
+    @Test
+    public void parseIfMatch_ShouldThrowPreconditionFailedException_WhenTagIsWeakOrNotAVersion() {
+        assertThrows(PreconditionFailedException.class, () -> EntityTags.parseIfMatch("W/\"7\""));
+        assertThrows(PreconditionFailedException.class, () -> EntityTags.parseIfMatch("7"));
+        assertThrows(PreconditionFailedException.class, () -> EntityTags.parseIfMatch("\"7\", \"8\""));
+        assertThrows(PreconditionFailedException.class, () -> EntityTags.parseIfMatch(EntityTags.digest("1.2")));
+    }
+
+    @Test
+    public void requireMatch_ShouldThrowPreconditionFailedException_OnlyWhenExpectedVersionDiffers() {
+        assertDoesNotThrow(() -> EntityTags.requireMatch(null, 3));
+        assertDoesNotThrow(() -> EntityTags.requireMatch(3L, 3));
+        assertThrows(PreconditionFailedException.class, () -> EntityTags.requireMatch(2L, 3));
+    }
+
+    @Test
+    public void digest_ShouldDependOnContent() {
+        assertEquals(EntityTags.digest("2,1.0,2.5"), EntityTags.digest("2,1.0,2.5"));
+        assertNotEquals(EntityTags.digest("2,1.0,2.5"), EntityTags.digest("2,1.0,2.6"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskaura.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskaura.dto.TaskDTO;
+import com.taskaura.exception.APIException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonMergePatchTest {
+
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("title", "description", "dueDate", "completed");
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private TaskDTO task;
+
+    @BeforeEach
+    public void setup() {
+        task = new TaskDTO(10L, "Write report", "Quarterly numbers", LocalDate.of(2026, 3, 1), false, 100L, 4L);
+    }
+
+    @Test
+    public void apply_ShouldReplacePresentFields_AndKeepAbsentOnes() {
+        TaskDTO patched = apply("{\"title\":\"Write summary\",\"completed\":true}");
+
+        assertEquals("Write summary", patched.getTitle());
+        assertTrue(patched.isCompleted());
+        assertEquals("Quarterly numbers", patched.getDescription());
+        assertEquals(LocalDate.of(2026, 3, 1), patched.getDueDate());
+        assertEquals(10L, patched.getId());
+        assertEquals(100L, patched.getProjectId());
+        assertEquals(4L, patched.getVersion());
+    }
+
+    @Test
+    public void apply_ShouldLeaveEverythingUnchanged_WhenPatchIsEmpty() {
+        assertEquals(task, apply("{}"));
+    }
+
+    @Test
+    public void apply_ShouldNotModifyCurrentObject() {
+        apply("{\"title\":\"Write summary\"}");
+
+        assertEquals("Write report", task.getTitle());
+    }
+
+    @Test
+    public void apply_ShouldClearField_WhenMemberIsNull() {
+        TaskDTO patched = apply("{\"description\":null,\"dueDate\":null}");
+
+        assertNull(patched.getDescription());
+        assertNull(patched.getDueDate());
+        assertEquals("Write report", patched.getTitle());
+    }
+
+    @Test
+    public void apply_ShouldThrowAPIException_WhenPrimitiveFieldIsNull() {
+        APIException e = assertThrows(APIException.class, () -> apply("{\"completed\":null}"));
+
+        assertEquals("Invalid value for completed", e.getMessage());
+    }
+
+    @Test
+    public void apply_ShouldThrowAPIException_WhenFieldIsNotPatchable() {
+        APIException e = assertThrows(APIException.class, () -> apply("{\"title\":\"Write summary\",\"version\":9}"));
+
+        assertEquals("Field cannot be patched: version", e.getMessage());
+        assertThrows(APIException.class, () -> apply("{\"id\":11}"));
+        assertThrows(APIException.class, () -> apply("{\"projectId\":200}"));
+        assertThrows(APIException.class, () -> apply("{\"unknown\":1}"));
+    }
+
+    @Test
+    public void apply_ShouldThrowAPIException_WhenValueHasWrongType() {
+        APIException e = assertThrows(APIException.class, () -> apply("{\"dueDate\":\"next week\"}"));
+
+        assertEquals("Invalid value for dueDate", e.getMessage());
+    }
+
+    @Test
+    public void apply_ShouldThrowAPIException_WhenPatchIsNotAnObject() {
+        assertThrows(APIException.class, () -> apply("[{\"title\":\"Write summary\"}]"));
+        assertThrows(APIException.class, () -> apply("null"));
+        assertThrows(APIException.class,
+                () -> JsonMergePatch.apply(objectMapper, task, null, PATCHABLE_FIELDS));
+    }
+
+    private TaskDTO apply(String patch) {
+        try {
+            JsonNode node = objectMapper.readTree(patch);
+            return JsonMergePatch.apply(objectMapper, task, node, PATCHABLE_FIELDS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}